@@ -0,0 +1,226 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * A schema, queries, and data shared by all benchmarks, defined without code
+ * generation.
+ *
+ * @author Lukas Eder
+ */
+final class BenchmarkSchema {
+
+    static final Table<Record>         AUTHOR             = table(name("author"));
+    static final Field<Integer>        AUTHOR_ID          = field(name("author", "id"), SQLDataType.INTEGER);
+    static final Field<String>         AUTHOR_FIRST_NAME  = field(name("author", "first_name"), SQLDataType.VARCHAR(50));
+    static final Field<String>         AUTHOR_LAST_NAME   = field(name("author", "last_name"), SQLDataType.VARCHAR(50));
+
+    static final Table<Record>         BOOK               = table(name("book"));
+    static final Field<Integer>        BOOK_ID            = field(name("book", "id"), SQLDataType.INTEGER);
+    static final Field<Integer>        BOOK_AUTHOR_ID     = field(name("book", "author_id"), SQLDataType.INTEGER);
+    static final Field<String>         BOOK_TITLE         = field(name("book", "title"), SQLDataType.VARCHAR(400));
+    static final Field<Integer>        BOOK_PUBLISHED_IN  = field(name("book", "published_in"), SQLDataType.INTEGER);
+    static final Field<BigDecimal>     BOOK_PRICE         = field(name("book", "price"), SQLDataType.NUMERIC(10, 2));
+    static final Field<LocalDateTime>  BOOK_CREATED       = field(name("book", "created"), SQLDataType.LOCALDATETIME);
+
+    static final Field<?>[]            BOOK_FIELDS        = {
+        BOOK_ID,
+        BOOK_AUTHOR_ID,
+        BOOK_TITLE,
+        BOOK_PUBLISHED_IN,
+        BOOK_PRICE,
+        BOOK_CREATED
+    };
+
+    static final String[]              SQL                = {
+        "select b.id, b.title from book as b where b.published_in > 2000 order by b.id",
+        "select a.first_name, a.last_name, count(*) from author as a join book as b on a.id = b.author_id "
+      + "where b.published_in between 1990 and 2010 and a.last_name like 'A%' group by a.first_name, a.last_name "
+      + "having count(*) > 1 order by 3 desc fetch first 10 rows only",
+        "insert into book (id, author_id, title, published_in, price) values (1, 1, 'jOOQ', 2022, 29.90)",
+        "update book set price = price * 1.1, title = upper(title) where id in (select id from book where published_in < 2000)",
+        "with recursive t (n) as (select 1 union all select n + 1 from t where n < 10) select n, row_number() over (order by n desc) from t"
+    };
+
+    private BenchmarkSchema() {}
+
+    /**
+     * A representative query with joins, predicates, grouping, and bind
+     * values.
+     */
+    static final Select<?> query(DSLContext ctx, int id) {
+        return ctx.select(AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, DSL.count(), DSL.max(BOOK_PRICE))
+                  .from(AUTHOR)
+                  .join(BOOK).on(AUTHOR_ID.eq(BOOK_AUTHOR_ID))
+                  .where(BOOK_PUBLISHED_IN.between(1990, 2010))
+                  .and(AUTHOR_LAST_NAME.like("A%").or(AUTHOR_ID.in(id, id + 1, id + 2)))
+                  .groupBy(AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+                  .having(DSL.count().gt(1))
+                  .orderBy(DSL.count().desc(), AUTHOR_LAST_NAME)
+                  .limit(10);
+    }
+
+    /**
+     * A detached result of <code>rows</code> books.
+     */
+    static final Result<Record> books(int rows) {
+        DSLContext ctx = DSL.using(SQLDialect.DEFAULT);
+        Result<Record> result = ctx.newResult(BOOK_FIELDS);
+        LocalDateTime created = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+        for (int i = 0; i < rows; i++) {
+            Record record = ctx.newRecord(BOOK_FIELDS);
+
+            record.set(BOOK_ID, i);
+            record.set(BOOK_AUTHOR_ID, i % 10);
+            record.set(BOOK_TITLE, "Title " + i);
+            record.set(BOOK_PUBLISHED_IN, 1950 + i % 70);
+            record.set(BOOK_PRICE, BigDecimal.valueOf(1000 + i, 2));
+            record.set(BOOK_CREATED, created.plusMinutes(i));
+            result.add(record);
+        }
+
+        return result;
+    }
+
+    /**
+     * A {@link DSLContext} on a {@link MockConnection} that returns
+     * <code>result</code> for every query, or an update count of
+     * <code>1</code>, if <code>result</code> is <code>null</code>.
+     */
+    static final DSLContext mock(SQLDialect dialect, Result<Record> result) {
+        MockResult[] mock = { result == null ? new MockResult(1) : new MockResult(result.size(), result) };
+        MockDataProvider provider = c -> mock;
+
+        return DSL.using(new MockConnection(provider), dialect);
+    }
+
+    /**
+     * A POJO mapped using public fields.
+     */
+    public static class FieldBook {
+        public Integer       id;
+        public Integer       authorId;
+        public String        title;
+        public Integer       publishedIn;
+        public BigDecimal    price;
+        public LocalDateTime created;
+    }
+
+    /**
+     * A POJO mapped using setters.
+     */
+    public static class SetterBook {
+        private Integer       id;
+        private Integer       authorId;
+        private String        title;
+        private Integer       publishedIn;
+        private BigDecimal    price;
+        private LocalDateTime created;
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public void setAuthorId(Integer authorId) {
+            this.authorId = authorId;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public void setPublishedIn(Integer publishedIn) {
+            this.publishedIn = publishedIn;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public void setCreated(LocalDateTime created) {
+            this.created = created;
+        }
+
+        @Override
+        public String toString() {
+            return "SetterBook [" + id + ", " + authorId + ", " + title + ", " + publishedIn + ", " + price + ", " + created + "]";
+        }
+    }
+
+    /**
+     * An immutable POJO mapped using its constructor.
+     */
+    public static class ImmutableBook {
+        public final Integer       id;
+        public final Integer       authorId;
+        public final String        title;
+        public final Integer       publishedIn;
+        public final BigDecimal    price;
+        public final LocalDateTime created;
+
+        public ImmutableBook(Integer id, Integer authorId, String title, Integer publishedIn, BigDecimal price, LocalDateTime created) {
+            this.id = id;
+            this.authorId = authorId;
+            this.title = title;
+            this.publishedIn = publishedIn;
+            this.price = price;
+            this.created = created;
+        }
+    }
+}
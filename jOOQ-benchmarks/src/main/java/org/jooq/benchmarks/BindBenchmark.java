@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_CREATED;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_PRICE;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_PUBLISHED_IN;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_TITLE;
+import static org.jooq.benchmarks.BenchmarkSchema.mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.CloseableQuery;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for binding values through <code>DefaultBinding</code> to a
+ * <code>MockConnection</code>.
+ * <p>
+ * The {@link #bind()} benchmark re-executes a kept statement, which skips
+ * rendering and preparing, and measures mostly binding.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BindBenchmark {
+
+    DSLContext     ctx;
+    CloseableQuery insert;
+    LocalDateTime  created;
+    int            i;
+
+    @Setup
+    public void setup() {
+        ctx = mock(SQLDialect.POSTGRES, null);
+        created = LocalDateTime.of(2022, 1, 1, 0, 0);
+        insert = ctx.insertInto(BOOK, BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN, BOOK_PRICE, BOOK_CREATED)
+                    .values(0, 0, "Title", 2022, BigDecimal.ONE, created)
+                    .keepStatement(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        insert.close();
+    }
+
+    @Benchmark
+    public int bind() {
+        return insert.bind(1, i++).execute();
+    }
+
+    @Benchmark
+    public int renderAndBind() {
+        return ctx.insertInto(BOOK, BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN, BOOK_PRICE, BOOK_CREATED)
+                  .values(i++, 0, "Title", 2022, BigDecimal.ONE, created)
+                  .execute();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_FIELDS;
+import static org.jooq.benchmarks.BenchmarkSchema.books;
+import static org.jooq.benchmarks.BenchmarkSchema.mock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.CloseableResultQuery;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for fetching records through <code>CursorImpl</code> and
+ * <code>DefaultBinding</code> from a <code>MockConnection</code>.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FetchBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    int                          rows;
+
+    DSLContext                   ctx;
+    CloseableResultQuery<Record> select;
+
+    @Setup
+    public void setup() {
+        ctx = mock(SQLDialect.POSTGRES, books(rows));
+        select = ctx.select(BOOK_FIELDS).from(BOOK).keepStatement(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        select.close();
+    }
+
+    @Benchmark
+    public Result<Record> fetch() {
+        return select.fetch();
+    }
+
+    @Benchmark
+    public void fetchLazy(Blackhole blackhole) {
+        try (Cursor<Record> cursor = select.fetchLazy()) {
+            for (Record record : cursor)
+                blackhole.consume(record);
+        }
+    }
+
+    @Benchmark
+    public Result<Record> renderAndFetch() {
+        return ctx.select(BOOK_FIELDS).from(BOOK).fetch();
+    }
+}
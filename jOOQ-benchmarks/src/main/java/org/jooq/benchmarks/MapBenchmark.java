@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_CREATED;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_PRICE;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_PUBLISHED_IN;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_TITLE;
+import static org.jooq.benchmarks.BenchmarkSchema.books;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.benchmarks.BenchmarkSchema.FieldBook;
+import org.jooq.benchmarks.BenchmarkSchema.ImmutableBook;
+import org.jooq.benchmarks.BenchmarkSchema.SetterBook;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for mapping records into POJOs through the
+ * <code>DefaultRecordMapper</code>, compared to a hand written
+ * <code>RecordMapper</code>.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MapBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    int            rows;
+
+    Result<Record> result;
+
+    @Setup
+    public void setup() {
+        result = books(rows);
+    }
+
+    @Benchmark
+    public List<FieldBook> intoFields() {
+        return result.into(FieldBook.class);
+    }
+
+    @Benchmark
+    public List<SetterBook> intoSetters() {
+        return result.into(SetterBook.class);
+    }
+
+    @Benchmark
+    public List<ImmutableBook> intoConstructor() {
+        return result.into(ImmutableBook.class);
+    }
+
+    @Benchmark
+    public List<ImmutableBook> mapManually() {
+        return result.map(r -> new ImmutableBook(
+            r.get(BOOK_ID),
+            r.get(BOOK_AUTHOR_ID),
+            r.get(BOOK_TITLE),
+            r.get(BOOK_PUBLISHED_IN),
+            r.get(BOOK_PRICE),
+            r.get(BOOK_CREATED)
+        ));
+    }
+}
@@ -164,6 +164,7 @@ abstract class AbstractGenerator implements Generator {
     String                             generateNewline                                  = "\n";
     String                             generateIndentation;
     int                                generatePrintMarginForBlockComment               = 80;
+    int                                generateParallelism                              = 1;
 
     protected GeneratorStrategyWrapper strategy;
     protected String                   targetEncoding                                   = "UTF-8";
@@ -1290,6 +1291,16 @@ abstract class AbstractGenerator implements Generator {
         this.generatePrintMarginForBlockComment = printMarginForBlockComment;
     }
 
+    @Override
+    public int generateParallelism() {
+        return generateParallelism;
+    }
+
+    @Override
+    public void setGenerateParallelism(int parallelism) {
+        this.generateParallelism = parallelism;
+    }
+
     // ----
 
     @Override
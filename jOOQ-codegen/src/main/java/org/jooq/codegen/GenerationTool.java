@@ -67,10 +67,13 @@ import java.util.Properties;
 
 import javax.sql.DataSource;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.Constants;
 import org.jooq.DSLContext;
 import org.jooq.Log.Level;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.meta.CatalogVersionProvider;
 import org.jooq.meta.ClassUtils;
 import org.jooq.meta.Database;
@@ -315,6 +318,7 @@ public class GenerationTool {
             locale = Locale.forLanguageTag(g.getTarget().getLocale());
 
         Database database = null;
+        ConnectionProvider readConnectionProvider = null;
 
         try {
 
@@ -325,6 +329,7 @@ public class GenerationTool {
 
                 if (dataSource != null) {
                     setConnection(dataSource.getConnection());
+                    readConnectionProvider = new DataSourceConnectionProvider(dataSource);
                 }
                 else {
                     String url = System.getProperty("jooq.codegen.jdbc.url");
@@ -374,10 +379,16 @@ public class GenerationTool {
 
                             setConnection(c);
 
-                            if (j.getInitScript() != null)
+                            if (j.getInitScript() != null) {
                                 for (String sql : j.getInitScript().split(defaultIfBlank(j.getInitSeparator(), ";")))
                                     if (!StringUtils.isBlank(sql))
                                         ctx.execute(sql);
+                            }
+
+                            // Additional connections for parallel meta data reads can
+                            // only be provided if they don't depend on an init script
+                            else if (defaultIfNull(d.getReadParallelism(), 1) > 1)
+                                readConnectionProvider = readConnectionProvider(driver, j.getUrl(), properties, j.isAutoCommit());
                         }
                         catch (Exception e) {
                             if (databaseName != null)
@@ -551,6 +562,8 @@ public class GenerationTool {
                 log.info("No <inputSchema/> was provided. Generating ALL available schemata instead.");
 
             database.setConnection(connection);
+            database.setReadConnectionProvider(readConnectionProvider);
+            database.setReadParallelism(defaultIfNull(d.getReadParallelism(), 1));
             database.setConfiguredCatalogs(catalogs);
             database.setConfiguredSchemata(schemata);
             database.setIncludes(new String[] { defaultString(d.getIncludes()) });
@@ -897,6 +910,8 @@ public class GenerationTool {
                 generator.setGenerateIndentation(g.getGenerate().getIndentation());
             if (g.getGenerate().getPrintMarginForBlockComment() != null)
                 generator.setGeneratePrintMarginForBlockComment(g.getGenerate().getPrintMarginForBlockComment());
+            if (g.getGenerate().getParallelism() != null)
+                generator.setGenerateParallelism(g.getGenerate().getParallelism());
 
 
             if (!isBlank(d.getSchemaVersionProvider()))
@@ -958,6 +973,38 @@ public class GenerationTool {
         }
     }
 
+    private static ConnectionProvider readConnectionProvider(
+        Class<? extends Driver> driver,
+        String url,
+        Properties properties,
+        Boolean autoCommit
+    ) {
+        return new ConnectionProvider() {
+            @Override
+            public Connection acquire() {
+                try {
+                    Connection c = driver.newInstance().connect(defaultString(url), properties);
+
+                    if (c == null)
+                        throw new SQLException("Cannot connect to database using JDBC URL: " + url);
+
+                    if (autoCommit != null)
+                        c.setAutoCommit(autoCommit);
+
+                    return c;
+                }
+                catch (Exception e) {
+                    throw new DataAccessException("Error while acquiring read connection", e);
+                }
+            }
+
+            @Override
+            public void release(Connection c) {
+                JDBCUtils.safeClose(c);
+            }
+        };
+    }
+
     private void verifyVersions() {
 
         // [#12488] Check if all of jOOQ, jOOQ-meta, jOOQ-codegen are using the same versions and editions
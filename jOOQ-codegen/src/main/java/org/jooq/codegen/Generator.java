@@ -1183,6 +1183,16 @@ public interface Generator {
      */
     void setGeneratePrintMarginForBlockComment(int printMarginForBlockComment);
 
+    /**
+     * The number of threads used to generate files.
+     */
+    int generateParallelism();
+
+    /**
+     * The number of threads used to generate files.
+     */
+    void setGenerateParallelism(int parallelism);
+
     /**
      * The target directory
      */
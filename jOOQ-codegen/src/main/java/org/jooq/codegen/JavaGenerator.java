@@ -86,6 +86,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -289,12 +293,12 @@ public class JavaGenerator extends AbstractGenerator {
     /**
      * All files affected by this generator run.
      */
-    private Set<File>                             affectedFiles                = new LinkedHashSet<>();
+    private Set<File>                             affectedFiles                = Collections.synchronizedSet(new LinkedHashSet<>());
 
     /**
      * All files modified by this generator run.
      */
-    private Set<File>                             modifiedFiles                = new LinkedHashSet<>();
+    private Set<File>                             modifiedFiles                = Collections.synchronizedSet(new LinkedHashSet<>());
 
     /**
      * These directories were not modified by this generator, but flagged as not
@@ -488,6 +492,9 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
 
+        if (generateParallelism() > 1)
+            preloadDefinitions();
+
         StopWatch w = new StopWatch();
         for (CatalogDefinition catalog : database.getCatalogs()) {
             try {
@@ -1418,16 +1425,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
-
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateRecord(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table record " + table, e);
-            }
-        }
-
+        generateEach(database.getTables(schema), this::generateRecord, "table record");
         watch.splitInfo("Table records generated");
     }
 
@@ -2724,16 +2722,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
-
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateInterface(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table interface " + table, e);
-            }
-        }
-
+        generateEach(database.getTables(schema), this::generateInterface, "table interface");
         watch.splitInfo("Table interfaces generated");
     }
 
@@ -2997,16 +2986,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateUDTs(SchemaDefinition schema) {
         log.info("Generating UDTs");
-
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDT(schema, udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating udt " + udt, e);
-            }
-        }
-
+        generateEach(database.getUDTs(schema), udt -> generateUDT(schema, udt), "udt");
         watch.splitInfo("UDTs generated");
     }
 
@@ -3174,16 +3154,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateUDTPojos(SchemaDefinition schema) {
         log.info("Generating UDT POJOs");
-
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTPojo(udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating UDT POJO " + udt, e);
-            }
-        }
-
+        generateEach(database.getUDTs(schema), this::generateUDTPojo, "UDT POJO");
         watch.splitInfo("UDT POJOs generated");
     }
 
@@ -3205,16 +3176,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateUDTInterfaces(SchemaDefinition schema) {
         log.info("Generating UDT interfaces");
-
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTInterface(udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating UDT interface " + udt, e);
-            }
-        }
-
+        generateEach(database.getUDTs(schema), this::generateUDTInterface, "UDT interface");
         watch.splitInfo("UDT interfaces generated");
     }
 
@@ -3239,16 +3201,7 @@ public class JavaGenerator extends AbstractGenerator {
      */
     protected void generateUDTRecords(SchemaDefinition schema) {
         log.info("Generating UDT records");
-
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTRecord(udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating UDT record " + udt, e);
-            }
-        }
-
+        generateEach(database.getUDTs(schema), this::generateUDTRecord, "UDT record");
         watch.splitInfo("UDT records generated");
     }
 
@@ -3464,16 +3417,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateArrays(SchemaDefinition schema) {
         log.info("Generating ARRAYs");
-
-        for (ArrayDefinition array : database.getArrays(schema)) {
-            try {
-                generateArray(schema, array);
-            }
-            catch (Exception e) {
-                log.error("Error while generating ARRAY record " + array, e);
-            }
-        }
-
+        generateEach(database.getArrays(schema), array -> generateArray(schema, array), "ARRAY record");
         watch.splitInfo("ARRAYs generated");
     }
 
@@ -3888,15 +3832,7 @@ public class JavaGenerator extends AbstractGenerator {
             closeJavaWriter(out);
         }
 
-        for (RoutineDefinition routine : database.getRoutines(schema)) {
-            try {
-                generateRoutine(schema, routine);
-            }
-            catch (Exception e) {
-                log.error("Error while generating routine " + routine, e);
-            }
-        }
-
+        generateEach(database.getRoutines(schema), routine -> generateRoutine(schema, routine), "routine");
         watch.splitInfo("Routines generated");
     }
 
@@ -4142,16 +4078,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
-
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateDao(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table DAO " + table, e);
-            }
-        }
-
+        generateEach(database.getTables(schema), this::generateDao, "table DAO");
         watch.splitInfo("Table DAOs generated");
     }
 
@@ -4743,16 +4670,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generatePojos(SchemaDefinition schema) {
         log.info("Generating table POJOs");
-
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generatePojo(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table POJO " + table, e);
-            }
-        }
-
+        generateEach(database.getTables(schema), this::generatePojo, "table POJO");
         watch.splitInfo("Table POJOs generated");
     }
 
@@ -5624,16 +5542,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateTables(SchemaDefinition schema) {
         log.info("Generating tables");
-
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateTable(schema, table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table " + table, e);
-            }
-        }
-
+        generateEach(database.getTables(schema), table -> generateTable(schema, table), "table");
         watch.splitInfo("Tables generated");
     }
 
@@ -6925,20 +6834,16 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("Generating embeddables");
 
         Set<File> duplicates = new HashSet<>();
-        for (EmbeddableDefinition embeddable : embeddables(schema)) {
-            try {
+        List<EmbeddableDefinition> embeddables = new ArrayList<>();
+        for (EmbeddableDefinition embeddable : embeddables(schema))
 
-                // [#6124] [#10481] <embeddableKeys/> map to the same embeddable for PKs/FKs.
-                //                  The FKs are always listed after the PKs, so we can simply skip
-                //                  unnecessary re-generations
-                if (duplicates.add(getFile(embeddable, Mode.RECORD)))
-                    generateEmbeddable(schema, embeddable);
-            }
-            catch (Exception e) {
-                log.error("Error while generating embeddable " + embeddable, e);
-            }
-        }
+            // [#6124] [#10481] <embeddableKeys/> map to the same embeddable for PKs/FKs.
+            //                  The FKs are always listed after the PKs, so we can simply skip
+            //                  unnecessary re-generations
+            if (duplicates.add(getFile(embeddable, Mode.RECORD)))
+                embeddables.add(embeddable);
 
+        generateEach(embeddables, embeddable -> generateEmbeddable(schema, embeddable), "embeddable");
         watch.splitInfo("Tables generated");
     }
 
@@ -6952,16 +6857,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateEmbeddablePojos(SchemaDefinition schema) {
         log.info("Generating embeddable POJOs");
-
-        for (EmbeddableDefinition embeddable : embeddables(schema)) {
-            try {
-                generateEmbeddablePojo(embeddable);
-            }
-            catch (Exception e) {
-                log.error("Error while generating embeddable POJO " + embeddable, e);
-            }
-        }
-
+        generateEach(embeddables(schema), this::generateEmbeddablePojo, "embeddable POJO");
         watch.splitInfo("Embeddable POJOs generated");
     }
 
@@ -6983,16 +6879,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     protected void generateEmbeddableInterfaces(SchemaDefinition schema) {
         log.info("Generating embeddable interfaces");
-
-        for (EmbeddableDefinition embeddable : embeddables(schema)) {
-            try {
-                generateEmbeddableInterface(embeddable);
-            }
-            catch (Exception e) {
-                log.error("Error while generating embeddable interface " + embeddable, e);
-            }
-        }
-
+        generateEach(embeddables(schema), this::generateEmbeddableInterface, "embeddable interface");
         watch.splitInfo("embeddable interfaces generated");
     }
 
@@ -9591,6 +9478,121 @@ public class JavaGenerator extends AbstractGenerator {
             return SQUARE_BRACKETS.matcher(type).replaceFirst("...");
     }
 
+    /**
+     * Generate the files of each definition, in parallel if
+     * {@link #generateParallelism()} allows for it.
+     * <p>
+     * Each definition produces its own files, so their content doesn't depend
+     * on the order in which they're generated.
+     */
+    private <D extends Definition> void generateEach(Iterable<D> definitions, Consumer<? super D> generator, String type) {
+        List<D> list = new ArrayList<>();
+        definitions.forEach(list::add);
+
+        if (generateParallelism() <= 1 || list.size() <= 1) {
+            for (D definition : list)
+                generateOne(definition, generator, type);
+
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(generateParallelism(), list.size()));
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(list.size());
+
+            for (D definition : list)
+                futures.add(executor.submit(() -> generateOne(definition, generator, type)));
+
+            for (Future<?> future : futures)
+                future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneratorException("Interrupted while generating " + type + " files", e);
+        }
+        catch (ExecutionException e) {
+            throw new GeneratorException("Error while generating " + type + " files", e.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <D extends Definition> void generateOne(D definition, Consumer<? super D> generator, String type) {
+        try {
+            generator.accept(definition);
+        }
+        catch (Exception e) {
+            log.error("Error while generating " + type + " " + definition, e);
+        }
+    }
+
+    /**
+     * Initialise all lazily loaded parts of the meta model before generating
+     * files in parallel, such that the generating threads only read it, and
+     * don't share the {@link Database}'s connection.
+     */
+    private void preloadDefinitions() {
+        database.getRelations();
+
+        for (SchemaDefinition schema : database.getSchemata()) {
+            database.getSequences(schema);
+            database.getIndexes(schema);
+            database.getEnums(schema);
+            database.getDomains(schema);
+
+            for (TableDefinition table : database.getTables(schema)) {
+                table.getPrimaryKey();
+                table.getUniqueKeys();
+                table.getKeys();
+                table.getForeignKeys();
+                table.getCheckConstraints();
+                table.getIndexes();
+                table.getIdentity();
+                table.getEmbeddables();
+                table.getReferencedEmbeddables();
+                table.getParentTable();
+                table.getChildTables();
+                table.getParameters();
+
+                for (ColumnDefinition column : table.getColumns()) {
+                    column.getType();
+                    column.getPrimaryKey();
+                    column.getUniqueKeys();
+                    column.getKeys();
+                    column.getForeignKeys();
+                }
+            }
+
+            for (EmbeddableDefinition embeddable : database.getEmbeddables(schema))
+                embeddable.getColumns().forEach(EmbeddableColumnDefinition::getType);
+
+            for (UDTDefinition udt : database.getUDTs(schema)) {
+                udt.getAttributes().forEach(AttributeDefinition::getType);
+                preloadDefinitions(udt.getRoutines());
+            }
+
+            for (ArrayDefinition array : database.getArrays(schema))
+                array.getElementType();
+
+            for (PackageDefinition pkg : database.getPackages(schema)) {
+                pkg.getConstants().forEach(AttributeDefinition::getType);
+                preloadDefinitions(pkg.getRoutines());
+            }
+
+            preloadDefinitions(database.getRoutines(schema));
+        }
+    }
+
+    private void preloadDefinitions(List<RoutineDefinition> routines) {
+        for (RoutineDefinition routine : routines) {
+            routine.getInParameters();
+            routine.getOutParameters();
+            routine.getAllParameters().forEach(ParameterDefinition::getType);
+        }
+    }
+
     // [#3880] Users may need to call this method
     protected JavaWriter newJavaWriter(File file) {
         file = fixSuffix(file);
@@ -45,7 +45,6 @@ import static org.jooq.tools.StringUtils.isBlank;
 import java.io.File;
 import java.io.Reader;
 import java.sql.SQLException;
-import java.util.Scanner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -54,7 +53,6 @@ import org.jooq.FilePattern;
 import org.jooq.FilePattern.Sort;
 import org.jooq.Name;
 import org.jooq.Name.Quoted;
-import org.jooq.Queries;
 import org.jooq.Query;
 // ...
 import org.jooq.ResultQuery;
@@ -170,8 +168,9 @@ public class DDLDatabase extends AbstractInterpretingDatabase {
         Reader r = null;
 
         try {
-            Scanner s = new Scanner(r = source.reader()).useDelimiter("\\A");
-            Queries queries = ctx.parser().parse(s.hasNext() ? s.next() : "");
+
+            // Parse queries one at a time, rather than reading large scripts into memory
+            Iterable<Query> queries = ctx.parser().parseStream(r = source.reader())::iterator;
 
 
 
@@ -41,6 +41,8 @@ package org.jooq.meta;
 import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.synchronizedList;
+import static java.util.Collections.synchronizedSet;
 import static java.util.Comparator.comparing;
 import static org.jooq.Log.Level.ERROR;
 import static org.jooq.SQLDialect.CUBRID;
@@ -77,8 +79,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -86,6 +94,7 @@ import java.util.stream.Stream;
 
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -207,25 +216,25 @@ public abstract class AbstractDatabase implements Database {
     private boolean                                                          forcedTypesForBuiltinDataTypeExtensions = true;
     private boolean                                                          builtInForcedTypesInitialised           = false;
     private List<ForcedType>                                                 configuredForcedTypes;
-    private Set<ForcedType>                                                  unusedForcedTypes                       = new HashSet<>();
+    private Set<ForcedType>                                                  unusedForcedTypes                       = synchronizedSet(new HashSet<>());
     private List<EmbeddableDefinitionType>                                   configuredEmbeddables                   = new ArrayList<>();
-    private Set<EmbeddableDefinitionType>                                    unusedEmbeddables                       = new HashSet<>();
+    private Set<EmbeddableDefinitionType>                                    unusedEmbeddables                       = synchronizedSet(new HashSet<>());
     private List<CommentType>                                                configuredComments                      = new ArrayList<>();
-    private Set<CommentType>                                                 unusedComments                          = new HashSet<>();
+    private Set<CommentType>                                                 unusedComments                          = synchronizedSet(new HashSet<>());
     private List<SyntheticReadonlyColumnType>                                configuredSyntheticReadonlyColumns      = new ArrayList<>();
-    private Set<SyntheticReadonlyColumnType>                                 unusedSyntheticReadonlyColumns          = new HashSet<>();
+    private Set<SyntheticReadonlyColumnType>                                 unusedSyntheticReadonlyColumns          = synchronizedSet(new HashSet<>());
     private List<SyntheticReadonlyRowidType>                                 configuredSyntheticReadonlyRowids       = new ArrayList<>();
-    private Set<SyntheticReadonlyRowidType>                                  unusedSyntheticReadonlyRowids           = new HashSet<>();
+    private Set<SyntheticReadonlyRowidType>                                  unusedSyntheticReadonlyRowids           = synchronizedSet(new HashSet<>());
     private List<SyntheticIdentityType>                                      configuredSyntheticIdentities           = new ArrayList<>();
-    private Set<SyntheticIdentityType>                                       unusedSyntheticIdentities               = new HashSet<>();
+    private Set<SyntheticIdentityType>                                       unusedSyntheticIdentities               = synchronizedSet(new HashSet<>());
     private List<SyntheticPrimaryKeyType>                                    configuredSyntheticPrimaryKeys          = new ArrayList<>();
-    private Set<SyntheticPrimaryKeyType>                                     unusedSyntheticPrimaryKeys              = new HashSet<>();
+    private Set<SyntheticPrimaryKeyType>                                     unusedSyntheticPrimaryKeys              = synchronizedSet(new HashSet<>());
     private List<SyntheticUniqueKeyType>                                     configuredSyntheticUniqueKeys           = new ArrayList<>();
-    private Set<SyntheticUniqueKeyType>                                      unusedSyntheticUniqueKeys               = new HashSet<>();
+    private Set<SyntheticUniqueKeyType>                                      unusedSyntheticUniqueKeys               = synchronizedSet(new HashSet<>());
     private List<SyntheticForeignKeyType>                                    configuredSyntheticForeignKeys          = new ArrayList<>();
-    private Set<SyntheticForeignKeyType>                                     unusedSyntheticForeignKeys              = new HashSet<>();
+    private Set<SyntheticForeignKeyType>                                     unusedSyntheticForeignKeys              = synchronizedSet(new HashSet<>());
     private List<SyntheticViewType>                                          configuredSyntheticViews                = new ArrayList<>();
-    private Set<SyntheticViewType>                                           unusedSyntheticViews                    = new HashSet<>();
+    private Set<SyntheticViewType>                                           unusedSyntheticViews                    = synchronizedSet(new HashSet<>());
     private SchemaVersionProvider                                            schemaVersionProvider;
     private CatalogVersionProvider                                           catalogVersionProvider;
     private Comparator<Definition>                                           orderProvider;
@@ -233,6 +242,8 @@ public abstract class AbstractDatabase implements Database {
     private boolean                                                          tableValuedFunctions                    = true;
     private int                                                              logSlowQueriesAfterSeconds;
     private int                                                              logSlowResultsAfterSeconds;
+    private int                                                              readParallelism                         = 1;
+    private ConnectionProvider                                               readConnectionProvider;
 
     // -------------------------------------------------------------------------
     // Loaded definitions
@@ -283,6 +294,7 @@ public abstract class AbstractDatabase implements Database {
     private transient Map<SchemaDefinition, List<RoutineDefinition>>         routinesBySchema;
     private transient Map<SchemaDefinition, List<PackageDefinition>>         packagesBySchema;
     private transient boolean                                                initialised;
+    private transient Map<String, Object>                                    preloaded;
 
     // Other caches
     private final List<Definition>                                           all;
@@ -292,12 +304,14 @@ public abstract class AbstractDatabase implements Database {
     private final Map<TableField<?, ?>, Boolean>                             existFields;
     private final Patterns                                                   patterns;
     private final Statements                                                 statements;
+    private final ThreadLocal<Connection>                                    readConnection;
 
     protected AbstractDatabase() {
-        existTables = new HashMap<>();
-        existFields = new HashMap<>();
+        existTables = new ConcurrentHashMap<>();
+        existFields = new ConcurrentHashMap<>();
         patterns = new Patterns();
         statements = new Statements();
+        readConnection = new ThreadLocal<>();
         filters = new ArrayList<>();
         all = new ArrayList<>();
         included = new ArrayList<>();
@@ -326,7 +340,18 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final Connection getConnection() {
-        return connection;
+        Connection c = readConnection.get();
+        return c != null ? c : connection;
+    }
+
+    @Override
+    public final void setReadConnectionProvider(ConnectionProvider provider) {
+        this.readConnectionProvider = provider;
+    }
+
+    @Override
+    public final ConnectionProvider getReadConnectionProvider() {
+        return readConnectionProvider;
     }
 
     @Override
@@ -498,7 +523,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final boolean exists(TableField<?, ?> field) {
-        return existFields.computeIfAbsent(field, this::exists0);
+        return exists(existFields, field, this::exists0);
     }
 
     /**
@@ -559,7 +584,23 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final boolean exists(Table<?> table) {
-        return existTables.computeIfAbsent(table, this::exists0);
+        return exists(existTables, table, this::exists0);
+    }
+
+    /**
+     * Look up a cached existence check, without holding any locks of the
+     * cache while querying the database, which may happen concurrently when
+     * meta data is read in parallel.
+     */
+    private static final <K> boolean exists(Map<K, Boolean> cache, K key, Predicate<? super K> exists0) {
+        Boolean result = cache.get(key);
+
+        if (result == null) {
+            result = exists0.test(key);
+            cache.putIfAbsent(key, result);
+        }
+
+        return result;
     }
 
     /**
@@ -1509,6 +1550,16 @@ public abstract class AbstractDatabase implements Database {
         this.logSlowResultsAfterSeconds = logSlowResultsAfterSeconds;
     }
 
+    @Override
+    public final int getReadParallelism() {
+        return readParallelism;
+    }
+
+    @Override
+    public final void setReadParallelism(int readParallelism) {
+        this.readParallelism = readParallelism;
+    }
+
     @Override
     public final SchemaVersionProvider getSchemaVersionProvider() {
         return schemaVersionProvider;
@@ -1621,12 +1672,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<SequenceDefinition> getSequences() {
+        preload();
+
         if (sequences == null) {
             sequences = new ArrayList<>();
 
             if (getIncludeSequences()) {
                 onError(ERROR, "Error while fetching sequences", () -> {
-                    List<SequenceDefinition> s = getSequences0();
+                    List<SequenceDefinition> s = preloaded("sequences", this::getSequences0);
 
                     sequences = sort(filterExcludeInclude(s));
                     log.info("Sequences fetched", fetchedSize(s, sequences));
@@ -1788,12 +1841,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<TableDefinition> getTables() {
+        preload();
+
         if (tables == null) {
             tables = new ArrayList<>();
 
             if (getIncludeTables()) {
                 onError(ERROR, "Error while fetching tables", () -> {
-                    List<TableDefinition> t = getTables0();
+                    List<TableDefinition> t = preloaded("tables", this::getTables0);
                     syntheticViews(t);
                     tables = sort(filterExcludeInclude(t));
                     log.info("Tables fetched", fetchedSize(t, tables));
@@ -1836,11 +1891,13 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<EnumDefinition> getEnums(SchemaDefinition schema) {
+        preload();
+
         if (enums == null) {
             enums = new ArrayList<>();
 
             onError(ERROR, "Error while fetching enums", () -> {
-                List<EnumDefinition> e = getEnums0();
+                List<EnumDefinition> e = preloaded("enums", this::getEnums0);
 
                 enums = sort(filterExcludeInclude(e));
                 enums.addAll(getConfiguredEnums());
@@ -2482,12 +2539,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<DomainDefinition> getDomains() {
+        preload();
+
         if (domains == null) {
             domains = new ArrayList<>();
 
             if (getIncludeDomains()) {
                 onError(ERROR, "Error while fetching domains", () -> {
-                    List<DomainDefinition> e = getDomains0();
+                    List<DomainDefinition> e = preloaded("domains", this::getDomains0);
 
                     domains = sort(filterExcludeInclude(e));
                     log.info("Domains fetched", fetchedSize(e, domains));
@@ -2530,12 +2589,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<ArrayDefinition> getArrays(SchemaDefinition schema) {
+        preload();
+
         if (arrays == null) {
             arrays = new ArrayList<>();
 
             if (getIncludeUDTs()) {
                 onError(ERROR, "Error while fetching ARRAYs", () -> {
-                    List<ArrayDefinition> a = getArrays0();
+                    List<ArrayDefinition> a = preloaded("arrays", this::getArrays0);
 
                     arrays = sort(filterExcludeInclude(a));
                     log.info("ARRAYs fetched", fetchedSize(a, arrays));
@@ -2573,12 +2634,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<UDTDefinition> getUDTs() {
+        preload();
+
         if (udts == null) {
             udts = new ArrayList<>();
 
             if (getIncludeUDTs()) {
                 onError(ERROR, "Error while fetching UDTs", () -> {
-                    List<UDTDefinition> u = getUDTs0();
+                    List<UDTDefinition> u = preloaded("udts", this::getUDTs0);
 
                     udts = sort(filterExcludeInclude(u));
                     log.info("UDTs fetched", fetchedSize(u, udts));
@@ -2629,6 +2692,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final Relations getRelations() {
+        preload();
+
         if (relations == null) {
             relations = new DefaultRelations();
 
@@ -2643,12 +2708,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<IndexDefinition> getIndexes(SchemaDefinition schema) {
+        preload();
+
         if (indexes == null) {
             indexes = new ArrayList<>();
 
             if (getIncludeIndexes()) {
                 onError(ERROR, "Error while fetching indexes", () -> {
-                    List<IndexDefinition> r = getIndexes0();
+                    List<IndexDefinition> r = preloaded("indexes", this::getIndexes0);
 
                     indexes = sort(r);
                     // indexes = sort(filterExcludeInclude(r)); TODO Support include / exclude for indexes (and constraints!)
@@ -2687,12 +2754,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<RoutineDefinition> getRoutines(SchemaDefinition schema) {
+        preload();
+
         if (routines == null) {
             routines = new ArrayList<>();
 
             if (getIncludeRoutines()) {
                 onError(ERROR, "Error while fetching routines", () -> {
-                    List<RoutineDefinition> r = getRoutines0();
+                    List<RoutineDefinition> r = preloaded("routines", this::getRoutines0);
 
                     routines = sort(filterExcludeInclude(r));
                     log.info("Routines fetched", fetchedSize(r, routines));
@@ -2710,12 +2779,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<PackageDefinition> getPackages(SchemaDefinition schema) {
+        preload();
+
         if (packages == null) {
             packages = new ArrayList<>();
 
             if (getIncludePackages()) {
                 onError(ERROR, "Error while fetching packages", () -> {
-                    List<PackageDefinition> p = getPackages0();
+                    List<PackageDefinition> p = preloaded("packages", this::getPackages0);
 
                     packages = sort(filterExcludeInclude(p));
                     log.info("Packages fetched", fetchedSize(p, packages));
@@ -2852,10 +2923,13 @@ public abstract class AbstractDatabase implements Database {
     public final <T extends Definition> List<T> filterExcludeInclude(List<T> definitions) {
         List<T> result = filterExcludeInclude(definitions, excludes, includes, filters);
 
-        this.all.addAll(definitions);
-        this.included.addAll(result);
-        this.excluded.addAll(definitions);
-        this.excluded.removeAll(result);
+        // Columns may be filtered concurrently, see preload()
+        synchronized (all) {
+            this.all.addAll(definitions);
+            this.included.addAll(result);
+            this.excluded.addAll(definitions);
+            this.excluded.removeAll(result);
+        }
 
         return result;
     }
@@ -2953,13 +3027,13 @@ public abstract class AbstractDatabase implements Database {
         final DefaultRelations result = relations instanceof DefaultRelations ? (DefaultRelations) relations : new DefaultRelations();
 
         if (getIncludePrimaryKeys())
-            onError(ERROR, "Error while fetching primary keys", () -> loadPrimaryKeys(result));
+            onError(ERROR, "Error while fetching primary keys", () -> preloaded("primaryKeys", result, this::loadPrimaryKeys));
 
         if (getIncludeUniqueKeys())
-            onError(ERROR, "Error while fetching unique keys", () -> loadUniqueKeys(result));
+            onError(ERROR, "Error while fetching unique keys", () -> preloaded("uniqueKeys", result, this::loadUniqueKeys));
 
         if (getIncludeCheckConstraints())
-            onError(ERROR, "Error while fetching check constraints", () -> loadCheckConstraints(result));
+            onError(ERROR, "Error while fetching check constraints", () -> preloaded("checkConstraints", result, this::loadCheckConstraints));
 
         if (getIncludePrimaryKeys()) {
             onError(ERROR, "Error while generating synthetic primary keys", () -> syntheticPrimaryKeys(result));
@@ -2974,7 +3048,7 @@ public abstract class AbstractDatabase implements Database {
 
 
         if (getIncludeForeignKeys())
-            onError(ERROR, "Error while fetching foreign keys", () -> loadForeignKeys(result));
+            onError(ERROR, "Error while fetching foreign keys", () -> preloaded("foreignKeys", result, this::loadForeignKeys));
 
 
 
@@ -3549,6 +3623,243 @@ public abstract class AbstractDatabase implements Database {
         return type;
     }
 
+    // -------------------------------------------------------------------------
+    // Parallel reads
+    // -------------------------------------------------------------------------
+
+    /**
+     * Read independent meta data concurrently, if
+     * {@link #getReadParallelism()} allows for it.
+     * <p>
+     * The <code>get*0()</code> loaders, the table columns, the indexes and the
+     * relation loaders are run on a pool of {@link #getReadParallelism()}
+     * threads, each using its own connection obtained from the
+     * {@link #getReadConnectionProvider()}. The raw results are stored and
+     * then consumed by the usual lazy getters, which apply filtering, sorting
+     * and relation bookkeeping serially and in the usual order, such that
+     * results are the same as when reading serially. Any failure while
+     * preloading is ignored, in case of which the affected objects are read
+     * again serially, reporting errors as usual.
+     */
+    private final void preload() {
+        if (preloaded != null || readParallelism <= 1)
+            return;
+
+        preloaded = new ConcurrentHashMap<>();
+
+        if (readConnectionProvider == null) {
+            log.info("Parallel reads", "No read connection provider is available. Reading meta data serially.");
+            return;
+        }
+
+        StopWatch watch = new StopWatch();
+        List<Connection> connections = synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(readParallelism, r -> {
+            Thread thread = new Thread(r, "jooq-meta-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+
+            // Catalogs and schemata are needed by all other loaders
+            getCatalogs();
+            getSchemata();
+
+            Map<String, ExceptionSupplier<?>> loaders = new LinkedHashMap<>();
+            if (getIncludeSequences())
+                loaders.put("sequences", this::getSequences0);
+            if (getIncludeTables())
+                loaders.put("tables", this::getTables0);
+            if (getIncludeRoutines())
+                loaders.put("routines", this::getRoutines0);
+            if (getIncludePackages())
+                loaders.put("packages", this::getPackages0);
+            loaders.put("enums", this::getEnums0);
+            if (getIncludeDomains())
+                loaders.put("domains", this::getDomains0);
+            if (getIncludeUDTs()) {
+                loaders.put("udts", this::getUDTs0);
+                loaders.put("arrays", this::getArrays0);
+            }
+
+            preload(executor, connections, loaders);
+
+            // Columns depend on tables
+            for (SchemaDefinition schema : getSchemata())
+                getTables(schema);
+
+            List<ExceptionRunnable> columns = new ArrayList<>();
+            for (TableDefinition table : getTables())
+                columns.add(table::getColumns);
+
+            run(executor, connections, columns);
+
+            // Indexes and relations depend on tables and columns
+            loaders = new LinkedHashMap<>();
+            if (getIncludeIndexes())
+                loaders.put("indexes", this::getIndexes0);
+
+            if (includeRelations) {
+                if (getIncludePrimaryKeys())
+                    loaders.put("primaryKeys", () -> record(this::loadPrimaryKeys));
+                if (getIncludeUniqueKeys())
+                    loaders.put("uniqueKeys", () -> record(this::loadUniqueKeys));
+                if (getIncludeCheckConstraints())
+                    loaders.put("checkConstraints", () -> record(this::loadCheckConstraints));
+                if (getIncludeForeignKeys())
+                    loaders.put("foreignKeys", () -> record(this::loadForeignKeys));
+            }
+
+            preload(executor, connections, loaders);
+            watch.splitInfo("Meta data read using up to " + readParallelism + " connections");
+        }
+        finally {
+            executor.shutdownNow();
+
+            for (Connection c : connections)
+                readConnectionProvider.release(c);
+        }
+    }
+
+    private final void preload(ExecutorService executor, List<Connection> connections, Map<String, ExceptionSupplier<?>> loaders) {
+        List<ExceptionRunnable> tasks = new ArrayList<>();
+
+        loaders.forEach((key, loader) -> tasks.add(() -> {
+            Object result = loader.get();
+
+            if (result != null)
+                preloaded.put(key, result);
+        }));
+
+        run(executor, connections, tasks);
+    }
+
+    private final void run(ExecutorService executor, List<Connection> connections, List<ExceptionRunnable> tasks) {
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+
+        for (ExceptionRunnable task : tasks) {
+            futures.add(executor.submit(() -> {
+                try {
+                    if (readConnection.get() == null) {
+                        Connection c = readConnectionProvider.acquire();
+                        connections.add(c);
+                        readConnection.set(c);
+                    }
+
+                    task.run();
+                }
+
+                // The object will be read again serially, reporting the error
+                catch (Exception e) {
+                    log.debug("Error while reading meta data in parallel", e);
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> future : futures)
+                future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final <T> T preloaded(String key, ExceptionSupplier<T> loader) throws Exception {
+        T result = preloaded != null ? (T) preloaded.remove(key) : null;
+        return result != null ? result : loader.get();
+    }
+
+    private final void preloaded(String key, DefaultRelations r, RelationsLoader loader) throws Exception {
+        RecordingRelations result = preloaded != null ? (RecordingRelations) preloaded.remove(key) : null;
+
+        if (result != null)
+            result.replay(r);
+        else
+            loader.load(r);
+    }
+
+    private static final RecordingRelations record(RelationsLoader loader) throws Exception {
+        RecordingRelations result = new RecordingRelations();
+        loader.load(result);
+        return result;
+    }
+
+    /**
+     * A {@link DefaultRelations} that records additions made by a relation
+     * loader, to replay them later on the actual relations, in the same order
+     * as when loading serially.
+     */
+    private static final class RecordingRelations extends DefaultRelations {
+        private final List<Consumer<DefaultRelations>> additions = new ArrayList<>();
+
+        @Override
+        public void addPrimaryKey(String keyName, TableDefinition table, ColumnDefinition column, boolean enforced) {
+            additions.add(r -> r.addPrimaryKey(keyName, table, column, enforced));
+        }
+
+        @Override
+        public void addUniqueKey(String keyName, TableDefinition table, ColumnDefinition column, boolean enforced) {
+            additions.add(r -> r.addUniqueKey(keyName, table, column, enforced));
+        }
+
+        @Override
+        public void overridePrimaryKey(UniqueKeyDefinition key) {
+            additions.add(r -> r.overridePrimaryKey(key));
+        }
+
+        @Override
+        public void addForeignKey(
+            String foreignKeyName,
+            TableDefinition foreignKeyTable,
+            ColumnDefinition foreignKeyColumn,
+            String uniqueKeyName,
+            TableDefinition uniqueKeyTable,
+            boolean enforced
+        ) {
+            additions.add(r -> r.addForeignKey(foreignKeyName, foreignKeyTable, foreignKeyColumn, uniqueKeyName, uniqueKeyTable, enforced));
+        }
+
+        @Override
+        public void addForeignKey(
+            String foreignKeyName,
+            TableDefinition foreignKeyTable,
+            ColumnDefinition foreignKeyColumn,
+            String uniqueKeyName,
+            TableDefinition uniqueKeyTable,
+            ColumnDefinition uniqueKeyColumn,
+            boolean enforced
+        ) {
+            additions.add(r -> r.addForeignKey(foreignKeyName, foreignKeyTable, foreignKeyColumn, uniqueKeyName, uniqueKeyTable, uniqueKeyColumn, enforced));
+        }
+
+        @Override
+        public void addCheckConstraint(TableDefinition table, CheckConstraintDefinition constraint) {
+            additions.add(r -> r.addCheckConstraint(table, constraint));
+        }
+
+        final void replay(DefaultRelations r) {
+            for (Consumer<DefaultRelations> addition : additions)
+                addition.accept(r);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExceptionSupplier<T> {
+        T get() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface RelationsLoader {
+        void load(DefaultRelations r) throws Exception;
+    }
+
     @FunctionalInterface
     private interface ExceptionRunnable {
         void run() throws Exception;
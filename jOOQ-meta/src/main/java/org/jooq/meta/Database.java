@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.DataType;
 import org.jooq.Name;
@@ -371,6 +372,18 @@ public interface Database extends AutoCloseable {
      */
     Connection getConnection();
 
+    /**
+     * Initialise a provider for additional connections to this database, which
+     * are used to read meta data concurrently, if
+     * {@link #getReadParallelism()} is greater than <code>1</code>.
+     */
+    void setReadConnectionProvider(ConnectionProvider provider);
+
+    /**
+     * The provider for additional connections to this database.
+     */
+    ConnectionProvider getReadConnectionProvider();
+
     /**
      * The input catalogs are the catalogs that jooq-meta is reading data from.
      */
@@ -961,6 +974,18 @@ public interface Database extends AutoCloseable {
      */
     void setLogSlowResultsAfterSeconds(int logSlowResultsAfterSeconds);
 
+    /**
+     * The maximum number of connections that may be used to read meta data
+     * concurrently.
+     */
+    int getReadParallelism();
+
+    /**
+     * The maximum number of connections that may be used to read meta data
+     * concurrently.
+     */
+    void setReadParallelism(int readParallelism);
+
     /**
      * The database's schema version provider.
      */
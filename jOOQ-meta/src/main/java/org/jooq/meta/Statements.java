@@ -65,11 +65,11 @@ final class Statements {
         this.ctx = c;
     }
 
-    final Result<?> fetch(String sql) {
+    final synchronized Result<?> fetch(String sql) {
         return sqlCache.computeIfAbsent(sql, ctx::fetch);
     }
 
-    final Set<?> fetchSet(String sql) {
+    final synchronized Set<?> fetchSet(String sql) {
         return sqlCacheSingleColumnSet.computeIfAbsent(sql, s -> fetch(s).intoSet(0));
     }
 }
@@ -1115,9 +1115,9 @@ public class H2Database extends AbstractDatabase implements ResultQueryDatabase
         return result;
     }
 
-    private Boolean is1_4_197;
-    private Boolean is1_4_198;
-    private Boolean is2_0_202;
+    private volatile Boolean is1_4_197;
+    private volatile Boolean is1_4_198;
+    private volatile Boolean is2_0_202;
 
     boolean is1_4_197() {
 
@@ -165,6 +165,8 @@ public class Database implements Serializable, XMLAppendable
     protected Integer logSlowQueriesAfterSeconds = 5;
     @XmlElement(defaultValue = "5")
     protected Integer logSlowResultsAfterSeconds = 5;
+    @XmlElement(defaultValue = "1")
+    protected Integer readParallelism = 1;
     @XmlElementWrapper(name = "properties")
     @XmlElement(name = "property")
     protected List<Property> properties;
@@ -1771,6 +1773,22 @@ public class Database implements Serializable, XMLAppendable
         this.logSlowResultsAfterSeconds = value;
     }
 
+    /**
+     * The maximum number of connections that may be used to read meta data concurrently, 1 for reading everything serially on the main connection.
+     * 
+     */
+    public Integer getReadParallelism() {
+        return readParallelism;
+    }
+
+    /**
+     * The maximum number of connections that may be used to read meta data concurrently, 1 for reading everything serially on the main connection.
+     * 
+     */
+    public void setReadParallelism(Integer value) {
+        this.readParallelism = value;
+    }
+
     public List<Property> getProperties() {
         if (properties == null) {
             properties = new ArrayList<Property>();
@@ -2444,6 +2462,15 @@ public class Database implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The maximum number of connections that may be used to read meta data concurrently, 1 for reading everything serially on the main connection.
+     * 
+     */
+    public Database withReadParallelism(Integer value) {
+        setReadParallelism(value);
+        return this;
+    }
+
     public Database withProperties(Property... values) {
         if (values!= null) {
             for (Property value: values) {
@@ -2680,6 +2707,7 @@ public class Database implements Serializable, XMLAppendable
         builder.append("tableValuedFunctions", tableValuedFunctions);
         builder.append("logSlowQueriesAfterSeconds", logSlowQueriesAfterSeconds);
         builder.append("logSlowResultsAfterSeconds", logSlowResultsAfterSeconds);
+        builder.append("readParallelism", readParallelism);
         builder.append("properties", "property", properties);
         builder.append("comments", "comment", comments);
         builder.append("catalogs", "catalog", catalogs);
@@ -3249,6 +3277,15 @@ public class Database implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (readParallelism == null) {
+            if (other.readParallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!readParallelism.equals(other.readParallelism)) {
+                return false;
+            }
+        }
         if (properties == null) {
             if (other.properties!= null) {
                 return false;
@@ -3388,6 +3425,7 @@ public class Database implements Serializable, XMLAppendable
         result = ((prime*result)+((tableValuedFunctions == null)? 0 :tableValuedFunctions.hashCode()));
         result = ((prime*result)+((logSlowQueriesAfterSeconds == null)? 0 :logSlowQueriesAfterSeconds.hashCode()));
         result = ((prime*result)+((logSlowResultsAfterSeconds == null)? 0 :logSlowResultsAfterSeconds.hashCode()));
+        result = ((prime*result)+((readParallelism == null)? 0 :readParallelism.hashCode()));
         result = ((prime*result)+((properties == null)? 0 :properties.hashCode()));
         result = ((prime*result)+((comments == null)? 0 :comments.hashCode()));
         result = ((prime*result)+((catalogs == null)? 0 :catalogs.hashCode()));
@@ -229,6 +229,8 @@ public class Generate implements Serializable, XMLAppendable
     protected String indentation;
     @XmlElement(defaultValue = "80")
     protected Integer printMarginForBlockComment = 80;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
 
     /**
      * Generate index information.
@@ -2516,6 +2518,22 @@ public class Generate implements Serializable, XMLAppendable
         this.printMarginForBlockComment = value;
     }
 
+    /**
+     * The number of threads used to generate files. Files are generated serially by default. Any value greater than <code>1</code> generates independent files such as tables, records, POJOs, DAOs, interfaces or UDTs in parallel, producing the same output.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to generate files. Files are generated serially by default. Any value greater than <code>1</code> generates independent files such as tables, records, POJOs, DAOs, interfaces or UDTs in parallel, producing the same output.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
     public Generate withIndexes(Boolean value) {
         setIndexes(value);
         return this;
@@ -3050,6 +3068,15 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to generate files. Files are generated serially by default. Any value greater than <code>1</code> generates independent files such as tables, records, POJOs, DAOs, interfaces or UDTs in parallel, producing the same output.
+     * 
+     */
+    public Generate withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
     @Override
     public final void appendTo(XMLBuilder builder) {
         builder.append("indexes", indexes);
@@ -3149,6 +3176,7 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("newline", newline);
         builder.append("indentation", indentation);
         builder.append("printMarginForBlockComment", printMarginForBlockComment);
+        builder.append("parallelism", parallelism);
     }
 
     @Override
@@ -4043,6 +4071,15 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
         return true;
     }
 
@@ -4147,6 +4184,7 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((newline == null)? 0 :newline.hashCode()));
         result = ((prime*result)+((indentation == null)? 0 :indentation.hashCode()));
         result = ((prime*result)+((printMarginForBlockComment == null)? 0 :printMarginForBlockComment.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
         return result;
     }
 
@@ -39,13 +39,16 @@
 package org.jooq.meta.mysql;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static org.jooq.Records.mapping;
 import static org.jooq.SQLDialect.MARIADB;
 import static org.jooq.SQLDialect.MYSQL;
 // ...
+import static org.jooq.impl.DSL.coalesce;
 import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.select;
@@ -67,12 +70,14 @@ import java.io.StringReader;
 import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record12;
 import org.jooq.Record5;
@@ -115,8 +120,9 @@ import org.jooq.tools.csv.CSVReader;
  */
 public class MySQLDatabase extends AbstractDatabase implements ResultQueryDatabase {
 
-    private Boolean is8;
-    private Boolean is8_0_16;
+    private volatile Boolean        is8;
+    private volatile Boolean        is8_0_16;
+    private Map<Name, List<Record>> columns;
 
     @Override
     protected List<IndexDefinition> getIndexes0() throws SQLException {
@@ -421,6 +427,50 @@ public class MySQLDatabase extends AbstractDatabase implements ResultQueryDataba
         return result;
     }
 
+    /**
+     * The columns of all tables in the given schemata.
+     */
+    ResultQuery<?> columns(List<String> schemas) {
+        return create().select(
+                    COLUMNS.TABLE_SCHEMA,
+                    COLUMNS.TABLE_NAME,
+                    COLUMNS.ORDINAL_POSITION,
+                    COLUMNS.COLUMN_NAME,
+                    COLUMNS.COLUMN_COMMENT,
+                    COLUMNS.COLUMN_TYPE,
+                    COLUMNS.DATA_TYPE,
+                    COLUMNS.IS_NULLABLE,
+                    COLUMNS.COLUMN_DEFAULT,
+                    COLUMNS.EXTRA,
+                    COLUMNS.GENERATION_EXPRESSION,
+                    COLUMNS.CHARACTER_MAXIMUM_LENGTH,
+
+                    // [#10856] Some older versions of MySQL 5.7 don't have the DATETIME_PRECISION column yet
+                    exists(COLUMNS.DATETIME_PRECISION)
+                        ? coalesce(COLUMNS.NUMERIC_PRECISION, COLUMNS.DATETIME_PRECISION).as(COLUMNS.NUMERIC_PRECISION)
+                        : COLUMNS.NUMERIC_PRECISION,
+                    COLUMNS.NUMERIC_SCALE)
+                .from(COLUMNS)
+                .where(COLUMNS.TABLE_SCHEMA.in(workaroundFor5213(schemas)))
+                .orderBy(COLUMNS.TABLE_SCHEMA, COLUMNS.TABLE_NAME, COLUMNS.ORDINAL_POSITION);
+    }
+
+    /**
+     * The columns of a table, looked up from all columns of the input schemata,
+     * which are fetched in a single query when first needed, rather than per
+     * table.
+     */
+    final synchronized List<Record> columns(SchemaDefinition schema, String table) {
+        if (columns == null) {
+            columns = new HashMap<>();
+
+            for (Record record : columns(getInputSchemata()))
+                columns.computeIfAbsent(name(record.get(COLUMNS.TABLE_SCHEMA), record.get(COLUMNS.TABLE_NAME)), k -> new ArrayList<>()).add(record);
+        }
+
+        return columns.getOrDefault(name(schema.getName(), table), emptyList());
+    }
+
     @Override
     protected List<TableDefinition> getTables0() throws SQLException {
         List<TableDefinition> result = new ArrayList<>();
@@ -40,7 +40,6 @@ package org.jooq.meta.mysql;
 
 import static java.util.Arrays.asList;
 // ...
-import static org.jooq.impl.DSL.coalesce;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.meta.mysql.information_schema.Tables.COLUMNS;
 
@@ -79,30 +78,7 @@ public class MySQLTableDefinition extends AbstractTableDefinition {
     public List<ColumnDefinition> getElements0() throws SQLException {
         List<ColumnDefinition> result = new ArrayList<>();
 
-        for (Record record : create().select(
-                    COLUMNS.ORDINAL_POSITION,
-                    COLUMNS.COLUMN_NAME,
-                    COLUMNS.COLUMN_COMMENT,
-                    COLUMNS.COLUMN_TYPE,
-                    COLUMNS.DATA_TYPE,
-                    COLUMNS.IS_NULLABLE,
-                    COLUMNS.COLUMN_DEFAULT,
-                    COLUMNS.EXTRA,
-                    COLUMNS.GENERATION_EXPRESSION,
-                    COLUMNS.CHARACTER_MAXIMUM_LENGTH,
-
-                    // [#10856] Some older versions of MySQL 5.7 don't have the DATETIME_PRECISION column yet
-                    getDatabase().exists(COLUMNS.DATETIME_PRECISION)
-                        ? coalesce(COLUMNS.NUMERIC_PRECISION, COLUMNS.DATETIME_PRECISION).as(COLUMNS.NUMERIC_PRECISION)
-                        : COLUMNS.NUMERIC_PRECISION,
-                    COLUMNS.NUMERIC_SCALE,
-                    COLUMNS.EXTRA)
-                .from(COLUMNS)
-                // [#5213] Duplicate schema value to work around MySQL issue https://bugs.mysql.com/bug.php?id=86022
-                .where(COLUMNS.TABLE_SCHEMA.in(getSchema().getName(), getSchema().getName()))
-                .and(COLUMNS.TABLE_NAME.equal(getName()))
-                .orderBy(COLUMNS.ORDINAL_POSITION)
-        ) {
+        for (Record record : ((MySQLDatabase) getDatabase()).columns(getSchema(), getName())) {
 
             String dataType = record.get(COLUMNS.DATA_TYPE);
 
@@ -39,6 +39,7 @@
 package org.jooq.meta.postgres;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static org.jooq.Records.intoList;
@@ -49,19 +50,23 @@ import static org.jooq.SQLDialect.POSTGRES;
 // ...
 // ...
 // ...
+import static org.jooq.impl.DSL.any;
 import static org.jooq.impl.DSL.array;
 import static org.jooq.impl.DSL.cast;
+import static org.jooq.impl.DSL.coalesce;
 import static org.jooq.impl.DSL.condition;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.decode;
 import static org.jooq.impl.DSL.falseCondition;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.lower;
 import static org.jooq.impl.DSL.max;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.not;
 import static org.jooq.impl.DSL.nullif;
+import static org.jooq.impl.DSL.nvl;
 import static org.jooq.impl.DSL.one;
 import static org.jooq.impl.DSL.partitionBy;
 import static org.jooq.impl.DSL.power;
@@ -90,6 +95,7 @@ import static org.jooq.meta.postgres.information_schema.Tables.ROUTINES;
 import static org.jooq.meta.postgres.information_schema.Tables.SEQUENCES;
 import static org.jooq.meta.postgres.information_schema.Tables.TABLES;
 import static org.jooq.meta.postgres.information_schema.Tables.VIEWS;
+import static org.jooq.meta.postgres.pg_catalog.Tables.PG_ATTRIBUTE;
 import static org.jooq.meta.postgres.pg_catalog.Tables.PG_CLASS;
 import static org.jooq.meta.postgres.pg_catalog.Tables.PG_CONSTRAINT;
 import static org.jooq.meta.postgres.pg_catalog.Tables.PG_DEPEND;
@@ -184,15 +190,16 @@ public class PostgresDatabase extends AbstractDatabase implements ResultQueryDat
 
     private static final JooqLogger log = JooqLogger.getLogger(PostgresDatabase.class);
 
-    private Boolean                 is84;
-    private Boolean                 is94;
-    private Boolean                 is10;
-    private Boolean                 is11;
-    private Boolean                 is12;
-    private Boolean                 canUseRoutines;
-    private Boolean                 canCastToEnumType;
-    private Boolean                 canCombineArrays;
-    private Boolean                 canUseTupleInPredicates;
+    private volatile Boolean        is84;
+    private volatile Boolean        is94;
+    private volatile Boolean        is10;
+    private volatile Boolean        is11;
+    private volatile Boolean        is12;
+    private volatile Boolean        canUseRoutines;
+    private volatile Boolean        canCastToEnumType;
+    private volatile Boolean        canCombineArrays;
+    private volatile Boolean        canUseTupleInPredicates;
+    private Map<Name, List<Record>> columns;
 
     @Override
     protected List<IndexDefinition> getIndexes0() throws SQLException {
@@ -461,6 +468,96 @@ public class PostgresDatabase extends AbstractDatabase implements ResultQueryDat
         }
     }
 
+    /**
+     * The columns of all tables in the given schemata.
+     */
+    ResultQuery<?> columns(List<String> schemas) {
+        Field<String> dataType =
+            when(COLUMNS.INTERVAL_TYPE.like(any(inline("%YEAR%"), inline("%MONTH%"))), inline("INTERVAL YEAR TO MONTH"))
+            .when(COLUMNS.INTERVAL_TYPE.like(any(inline("%DAY%"), inline("%HOUR%"), inline("%MINUTE%"), inline("%SECOND%"))), inline("INTERVAL DAY TO SECOND"))
+            .when(COLUMNS.DATA_TYPE.eq(inline("USER-DEFINED")).and(COLUMNS.UDT_NAME.eq(inline("geometry"))), inline("geometry"))
+            .else_(COLUMNS.DATA_TYPE);
+        Field<String> udtSchema = COLUMNS.UDT_SCHEMA;
+        Field<Integer> precision = nvl(COLUMNS.DATETIME_PRECISION, COLUMNS.NUMERIC_PRECISION);
+        Field<String> serialColumnDefault = inline("nextval('%_seq'::regclass)");
+        Field<String> generationExpression = COLUMNS.GENERATION_EXPRESSION;
+        Field<String> attgenerated = is12() ? PG_ATTRIBUTE.ATTGENERATED : inline("s");
+
+
+
+
+
+
+
+
+
+
+        Condition isSerial = lower(COLUMNS.COLUMN_DEFAULT).likeIgnoreCase(serialColumnDefault);
+        Condition isIdentity10 = COLUMNS.IS_IDENTITY.eq(inline("YES"));
+
+        // [#9200] only use COLUMN_DEFAULT for ColumnDefinition#isIdentity() if
+        // table has no column with IS_IDENTITY = 'YES'
+        Condition isIdentity =
+              is10()
+            ? isIdentity10.or(count().filterWhere(isIdentity10).over(partitionBy(COLUMNS.TABLE_SCHEMA, COLUMNS.TABLE_NAME)).eq(inline(0)).and(isSerial))
+            : isSerial;
+
+        return create().select(
+                COLUMNS.TABLE_SCHEMA,
+                COLUMNS.TABLE_NAME,
+                COLUMNS.COLUMN_NAME,
+                COLUMNS.ORDINAL_POSITION,
+                dataType.as(COLUMNS.DATA_TYPE),
+
+                // [#8067] [#11658] A more robust / sophisticated decoding might be available
+                nvl(
+                    COLUMNS.CHARACTER_MAXIMUM_LENGTH,
+                    when(COLUMNS.UDT_NAME.in(inline("_varchar"), inline("_bpchar"), inline("_char")), PG_ATTRIBUTE.ATTTYPMOD.sub(inline(4)))).as(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
+                precision.as(COLUMNS.NUMERIC_PRECISION),
+                COLUMNS.NUMERIC_SCALE,
+                (when(isIdentity, inline("YES"))).as(COLUMNS.IS_IDENTITY),
+                COLUMNS.IS_NULLABLE,
+                generationExpression.as(COLUMNS.GENERATION_EXPRESSION),
+                attgenerated.as(PG_ATTRIBUTE.ATTGENERATED),
+                (when(isIdentity, inline(null, String.class)).else_(COLUMNS.COLUMN_DEFAULT)).as(COLUMNS.COLUMN_DEFAULT),
+                coalesce(COLUMNS.DOMAIN_SCHEMA, udtSchema).as(COLUMNS.UDT_SCHEMA),
+                coalesce(COLUMNS.DOMAIN_NAME, COLUMNS.UDT_NAME).as(COLUMNS.UDT_NAME),
+                PG_DESCRIPTION.DESCRIPTION)
+            .from(COLUMNS)
+            .join(PG_NAMESPACE)
+                .on(COLUMNS.TABLE_SCHEMA.eq(PG_NAMESPACE.NSPNAME))
+            .join(PG_CLASS)
+                .on(PG_CLASS.RELNAME.eq(COLUMNS.TABLE_NAME))
+                .and(PG_CLASS.RELNAMESPACE.eq(PG_NAMESPACE.OID))
+            .join(PG_ATTRIBUTE)
+                .on(PG_ATTRIBUTE.ATTRELID.eq(PG_CLASS.OID))
+                .and(PG_ATTRIBUTE.ATTNAME.eq(COLUMNS.COLUMN_NAME))
+            .leftJoin(PG_DESCRIPTION)
+                .on(PG_DESCRIPTION.OBJOID.eq(PG_CLASS.OID))
+                .and(PG_DESCRIPTION.OBJSUBID.eq(COLUMNS.ORDINAL_POSITION))
+            .where(COLUMNS.TABLE_SCHEMA.in(schemas))
+
+
+
+            .orderBy(COLUMNS.TABLE_SCHEMA, COLUMNS.TABLE_NAME, COLUMNS.ORDINAL_POSITION);
+    }
+
+    /**
+     * The columns of a table, looked up from all columns of the input schemata,
+     * which are fetched in a single query when first needed, rather than per
+     * table.
+     */
+    final synchronized List<Record> columns(SchemaDefinition schema, String table) {
+        if (columns == null) {
+            columns = new HashMap<>();
+
+            for (Record record : columns(getInputSchemata()))
+                columns.computeIfAbsent(name(record.get(COLUMNS.TABLE_SCHEMA), record.get(COLUMNS.TABLE_NAME)), k -> new ArrayList<>()).add(record);
+        }
+
+        return columns.getOrDefault(name(schema.getName(), table), emptyList());
+    }
+
     @Override
     protected List<TableDefinition> getTables0() throws SQLException {
         List<TableDefinition> result = new ArrayList<>();
@@ -1197,8 +1294,9 @@ public class PostgresDatabase extends AbstractDatabase implements ResultQueryDat
 
             // [#2917] Older versions of PostgreSQL don't support the above cast
             try {
+                List<String> result = enumLabels(nspname, typname, orderBy);
                 canCastToEnumType = true;
-                return enumLabels(nspname, typname, orderBy);
+                return result;
             }
             catch (DataAccessException e) {
                 canCastToEnumType = false;
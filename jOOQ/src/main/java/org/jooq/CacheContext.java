@@ -42,6 +42,11 @@ import org.jooq.impl.CacheType;
 /**
  * The parameter object passed to the
  * {@link CacheProvider#provide(CacheContext)} method.
+ * <p>
+ * The context lives as long as the provided cache, and can be retained by a
+ * {@link CacheProvider} to monitor the cache's hits, misses, and evictions.
+ * Custom implementations of this type, which don't record any such metrics,
+ * may rely on the default implementations of the monitoring methods.
  *
  * @author Lukas Eder
  */
@@ -51,4 +56,35 @@ public interface CacheContext extends Scope {
      * The cache type for which a cache should be provided.
      */
     CacheType cacheType();
+
+    /**
+     * The number of cache hits recorded by jOOQ on the provided cache so far.
+     */
+    default long hits() {
+        return 0L;
+    }
+
+    /**
+     * The number of cache misses recorded by jOOQ on the provided cache so
+     * far.
+     */
+    default long misses() {
+        return 0L;
+    }
+
+    /**
+     * The number of evictions reported by the provided cache through
+     * {@link #recordEviction()} so far.
+     */
+    default long evictions() {
+        return 0L;
+    }
+
+    /**
+     * Report the eviction of an entry from the provided cache.
+     * <p>
+     * {@link CacheProvider} implementations producing bounded caches may call
+     * this to make evictions visible through {@link #evictions()}.
+     */
+    default void recordEviction() {}
 }
@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+
+/**
+ * The type of event emitted to an {@link ExecuteListener}.
+ * <p>
+ * Each constant corresponds to the {@link ExecuteListener} method of the same
+ * name.
+ *
+ * @see ExecuteListenerProvider#handles(ExecuteEventType)
+ */
+public enum ExecuteEventType {
+
+    /**
+     * {@link ExecuteListener#start(ExecuteContext)}
+     */
+    START,
+
+    /**
+     * {@link ExecuteListener#renderStart(ExecuteContext)}
+     */
+    RENDER_START,
+
+    /**
+     * {@link ExecuteListener#renderEnd(ExecuteContext)}
+     */
+    RENDER_END,
+
+    /**
+     * {@link ExecuteListener#prepareStart(ExecuteContext)}
+     */
+    PREPARE_START,
+
+    /**
+     * {@link ExecuteListener#prepareEnd(ExecuteContext)}
+     */
+    PREPARE_END,
+
+    /**
+     * {@link ExecuteListener#bindStart(ExecuteContext)}
+     */
+    BIND_START,
+
+    /**
+     * {@link ExecuteListener#bindEnd(ExecuteContext)}
+     */
+    BIND_END,
+
+    /**
+     * {@link ExecuteListener#executeStart(ExecuteContext)}
+     */
+    EXECUTE_START,
+
+    /**
+     * {@link ExecuteListener#executeEnd(ExecuteContext)}
+     */
+    EXECUTE_END,
+
+    /**
+     * {@link ExecuteListener#outStart(ExecuteContext)}
+     */
+    OUT_START,
+
+    /**
+     * {@link ExecuteListener#outEnd(ExecuteContext)}
+     */
+    OUT_END,
+
+    /**
+     * {@link ExecuteListener#fetchStart(ExecuteContext)}
+     */
+    FETCH_START,
+
+    /**
+     * {@link ExecuteListener#resultStart(ExecuteContext)}
+     */
+    RESULT_START,
+
+    /**
+     * {@link ExecuteListener#recordStart(ExecuteContext)}
+     */
+    RECORD_START,
+
+    /**
+     * {@link ExecuteListener#recordEnd(ExecuteContext)}
+     */
+    RECORD_END,
+
+    /**
+     * {@link ExecuteListener#resultEnd(ExecuteContext)}
+     */
+    RESULT_END,
+
+    /**
+     * {@link ExecuteListener#fetchEnd(ExecuteContext)}
+     */
+    FETCH_END,
+
+    /**
+     * {@link ExecuteListener#end(ExecuteContext)}
+     */
+    END,
+
+    /**
+     * {@link ExecuteListener#exception(ExecuteContext)}
+     */
+    EXCEPTION,
+
+    /**
+     * {@link ExecuteListener#warning(ExecuteContext)}
+     */
+    WARNING,
+}
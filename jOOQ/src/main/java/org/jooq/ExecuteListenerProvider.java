@@ -37,6 +37,7 @@
  */
 package org.jooq;
 
+import org.jooq.impl.DefaultExecuteListener;
 import org.jooq.impl.DefaultExecuteListenerProvider;
 
 import org.jetbrains.annotations.NotNull;
@@ -74,4 +75,27 @@ public interface ExecuteListenerProvider {
      */
     @NotNull
     ExecuteListener provide();
+
+    /**
+     * Whether the <code>ExecuteListener</code> instances provided by this
+     * provider handle an event.
+     * <p>
+     * jOOQ doesn't dispatch events to listeners that don't handle them. This
+     * avoids calling no-op implementations, which is most useful for the
+     * {@link ExecuteListener#recordStart(ExecuteContext)} and
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events, which are
+     * emitted for every fetched record.
+     * <p>
+     * The result must be the same for all listeners provided by this
+     * provider. The default implementation returns <code>true</code> for all
+     * events. {@link DefaultExecuteListenerProvider} returns
+     * <code>false</code> for the methods that its listener doesn't override
+     * from {@link DefaultExecuteListener}.
+     *
+     * @param type The event type.
+     * @return Whether the provided listeners handle the event.
+     */
+    default boolean handles(ExecuteEventType type) {
+        return true;
+    }
 }
@@ -341,4 +341,72 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull @CheckReturnValue
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    /**
+     * Use the RDBMS's native bulk loading API, where available.
+     * <p>
+     * In {@link SQLDialect#POSTGRES}, rows are streamed to the server using
+     * <code>COPY .. FROM STDIN</code> through the pgjdbc driver's
+     * <code>CopyManager</code>, which requires the driver's
+     * <code>PGConnection</code> to be obtainable through
+     * {@link Configuration#unwrapperProvider()}. Values are converted using
+     * the target fields' {@link DataType} and {@link Converter}, as with
+     * <code>INSERT</code>. Each <code>COPY</code> statement loads as many rows
+     * as {@link #bulkAfter(int)} and {@link #batchAfter(int)} would put into
+     * a single execution, or all rows if neither is specified. A failing
+     * <code>COPY</code> statement reports a single {@link LoaderError} for
+     * all of its rows. {@link ExecuteListener} lifecycle events are not
+     * fired for <code>COPY</code> statements.
+     * <p>
+     * In all other cases, the other BULK OPTIONS apply, and rows are loaded
+     * using <code>INSERT</code> statements.
+     * <p>
+     * This cannot be combined with {@link #onDuplicateKeyIgnore()} or
+     * {@link #onDuplicateKeyUpdate()}.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> bulkNative();
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Load rows in parallel, using a given number of connections.
+     * <p>
+     * Input rows are distributed across <code>threads</code> workers, which
+     * are run on the {@link Configuration#executorProvider()}. Each worker
+     * acquires its own connection from the
+     * {@link Configuration#connectionProvider()}, and applies the BULK, BATCH,
+     * and COMMIT OPTIONS to the rows it has received independently. With
+     * {@link #commitAll()}, the workers keep their connections until all of
+     * them are done, and then all commit or all roll back, depending on
+     * whether any errors occurred. A worker that fails unexpectedly rolls
+     * back its own changes before releasing its connection. This is not an
+     * atomic, distributed transaction: {@link #commitAll()} is only atomic
+     * per worker, and if committing fails on one worker, the other workers'
+     * commits may already have succeeded.
+     * <p>
+     * {@link Loader#errors()} and the counters are aggregated across all
+     * workers. The order in which rows are stored is undefined.
+     * {@link LoaderRowListener} instances are called by the workers one at a
+     * time, so they need not be thread safe. With {@link #onErrorAbort()}, an
+     * error on any worker stops all other workers.
+     * <p>
+     * This requires a {@link ConnectionProvider} that provides a different
+     * connection to each concurrent caller of
+     * {@link ConnectionProvider#acquire()}, such as a
+     * {@link org.jooq.impl.DataSourceConnectionProvider}. If the
+     * {@link Configuration} wraps a single JDBC {@link Connection}, rows are
+     * loaded sequentially.
+     * <p>
+     * If you don't specify a PARALLEL OPTION, rows are loaded sequentially on
+     * a single connection.
+     *
+     * @param threads The number of connections and workers to use.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallel(int threads);
 }
@@ -37,6 +37,10 @@
  */
 package org.jooq;
 
+import java.io.Reader;
+import java.util.stream.Stream;
+
+import org.jooq.conf.Settings;
 import org.jooq.impl.ParserException;
 
 import org.jetbrains.annotations.NotNull;
@@ -72,9 +76,37 @@ public interface Parser {
     @PlainSQL
     Queries parse(String sql, Object... bindings) throws ParserException;
 
+    /**
+     * Parse a SQL script to a lazy stream of queries.
+     * <p>
+     * Unlike {@link #parse(String)}, this doesn't read the entire script into
+     * memory. Queries are parsed one at a time as the stream is consumed, only
+     * buffering as much of the script as is needed to parse the next query.
+     * This is useful for large scripts, such as database dumps, whose queries
+     * are separated by delimiters.
+     * <p>
+     * The {@link Reader} is closed when the stream is closed.
+     *
+     * @param reader The SQL script
+     * @throws ParserException If the SQL script could not be parsed. This is
+     *             thrown lazily, when consuming the stream.
+     */
+    @NotNull
+    @Support
+    @PlainSQL
+    Stream<Query> parseStream(Reader reader) throws ParserException;
+
     /**
      * Parse a SQL string to a query.
      *
+     * <p>
+     * If {@link Settings#isCacheParsedQueries()} is active, this may produce a
+     * plain SQL query from a cached translation of the SQL string, with its
+     * numeric literals bound as bind values. Such a query is not a
+     * {@link Select}, {@link Insert}, {@link Update}, {@link Delete}, or
+     * {@link Merge} expression tree, and cannot be inspected or transformed
+     * as such.
+     *
      * @param sql The SQL string
      * @throws ParserException If the SQL string could not be parsed.
      */
@@ -150,6 +182,14 @@ public interface Parser {
     /**
      * Parse a SQL string to a result query.
      *
+     * <p>
+     * If {@link Settings#isCacheParsedQueries()} is active, this may produce a
+     * plain SQL query from a cached translation of the SQL string, with its
+     * numeric literals bound as bind values. Such a query is not a
+     * {@link Select}, {@link Insert}, {@link Update}, {@link Delete}, or
+     * {@link Merge} expression tree, and cannot be inspected or transformed
+     * as such.
+     *
      * @param sql The SQL string
      * @throws ParserException If the SQL string could not be parsed.
      */
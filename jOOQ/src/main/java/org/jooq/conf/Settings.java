@@ -249,8 +249,18 @@ public class Settings
     protected Boolean cacheParsingConnection = true;
     @XmlElement(defaultValue = "8192")
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheParsedQueries = false;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheParsedQueriesLRUCacheSize = 8192;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheRenderedSQL = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cachePreparedStatements = false;
+    @XmlElement(defaultValue = "256")
+    protected Integer cachePreparedStatementsLRUCacheSize = 256;
     @XmlElement(defaultValue = "THROW_ALL")
     @XmlSchemaType(name = "string")
     protected ThrowExceptions throwExceptions = ThrowExceptions.THROW_ALL;
@@ -262,6 +272,8 @@ public class Settings
     protected Boolean returnIdentityOnUpdatableRecord = true;
     @XmlElement(defaultValue = "false")
     protected Boolean returnAllOnUpdatableRecord = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean returnIdentityOnBatchedRecords = false;
     @XmlElement(defaultValue = "true")
     protected Boolean returnRecordToPojo = true;
     @XmlElement(defaultValue = "true")
@@ -283,6 +295,14 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "256")
+    protected Integer r2dbcPrefetch = 256;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchColumnarResults = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchSharedOriginals = false;
+    @XmlElement(defaultValue = "0")
+    protected Integer fetchResultMemoryBudget = 0;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
     @XmlElement(defaultValue = "true")
@@ -2648,6 +2668,46 @@ public class Settings
         this.cacheParsingConnectionLRUCacheSize = value;
     }
 
+    /**
+     * Whether direct calls to Parser.parseQuery() and Parser.parseResultQuery() should cache their translations by SQL string, with numeric literals normalised to bind values. Cached translations are returned as plain SQL queries, not as Select, Insert, Update, Delete, or Merge expression trees, so the results of these calls can't be inspected or transformed like parsed queries.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheParsedQueries() {
+        return cacheParsedQueries;
+    }
+
+    /**
+     * Sets the value of the cacheParsedQueries property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheParsedQueries(Boolean value) {
+        this.cacheParsedQueries = value;
+    }
+
+    /**
+     * The default implementation of the parsed query cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheParsedQueriesLRUCacheSize() {
+        return cacheParsedQueriesLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the parsed query cache's LRU cache size.
+     * 
+     */
+    public void setCacheParsedQueriesLRUCacheSize(Integer value) {
+        this.cacheParsedQueriesLRUCacheSize = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -2672,6 +2732,70 @@ public class Settings
         this.cachePreparedStatementInLoader = value;
     }
 
+    /**
+     * Whether a {@link org.jooq.Query} should cache its rendered SQL string and bind value extraction across executions with the same configuration, rebinding only its bind values (e.g. after {@link org.jooq.Query#bind(int, Object)}). This applies to SELECT, INSERT, UPDATE and DELETE queries, which discard their cached SQL string when they are modified, or when the configuration's settings change. Queries containing other queries, such as subqueries or set operation operands, are not cached, as modifications of those queries can't be detected.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheRenderedSQL() {
+        return cacheRenderedSQL;
+    }
+
+    /**
+     * Sets the value of the cacheRenderedSQL property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheRenderedSQL(Boolean value) {
+        this.cacheRenderedSQL = value;
+    }
+
+    /**
+     * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached per JDBC {@link java.sql.Connection} across executions, keyed by their SQL string. This is effective only when the same connection is used for several executions, e.g. with a {@link org.jooq.impl.DefaultConnectionProvider} or within a transaction. Cached statements are closed when the connection is released at the end of a transaction.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCachePreparedStatements() {
+        return cachePreparedStatements;
+    }
+
+    /**
+     * Sets the value of the cachePreparedStatements property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCachePreparedStatements(Boolean value) {
+        this.cachePreparedStatements = value;
+    }
+
+    /**
+     * The default implementation of the PreparedStatement cache's LRU cache size, per connection.
+     * 
+     */
+    public Integer getCachePreparedStatementsLRUCacheSize() {
+        return cachePreparedStatementsLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the PreparedStatement cache's LRU cache size, per connection.
+     * 
+     */
+    public void setCachePreparedStatementsLRUCacheSize(Integer value) {
+        this.cachePreparedStatementsLRUCacheSize = value;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -2779,6 +2903,30 @@ public class Settings
         this.returnAllOnUpdatableRecord = value;
     }
 
+    /**
+     * Whether batched record inserts should fetch identity values (and other values subject to {@link #isReturnAllOnUpdatableRecord()}) into the records, where the dialect supports multi row INSERT .. RETURNING. This only applies if {@link #isReturnIdentityOnUpdatableRecord()} is also active. Returned rows are matched back to records by a unique key whose values are inserted explicitly. If no such key exists, the records are inserted in a JDBC batch, whose generated keys are fetched in bind order.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isReturnIdentityOnBatchedRecords() {
+        return returnIdentityOnBatchedRecords;
+    }
+
+    /**
+     * Sets the value of the returnIdentityOnBatchedRecords property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setReturnIdentityOnBatchedRecords(Boolean value) {
+        this.returnIdentityOnBatchedRecords = value;
+    }
+
     /**
      * Whether calls to store(), insert(), update(), and delete() that are called on an UpdatableRecord
      * that is created from a POJO (e.g. in a DAO) should return all Record values to the POJO, including
@@ -2997,6 +3145,86 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * The number of rows that are requested in advance from an R2DBC <code>Result</code>, and buffered until they are requested by the downstream subscriber. More rows are requested when 75% of the prefetched rows have been consumed. A value of 1 requests one row at a time.
+     * 
+     */
+    public Integer getR2dbcPrefetch() {
+        return r2dbcPrefetch;
+    }
+
+    /**
+     * The number of rows that are requested in advance from an R2DBC <code>Result</code>, and buffered until they are requested by the downstream subscriber. More rows are requested when 75% of the prefetched rows have been consumed. A value of 1 requests one row at a time.
+     * 
+     */
+    public void setR2dbcPrefetch(Integer value) {
+        this.r2dbcPrefetch = value;
+    }
+
+    /**
+     * Whether eagerly fetched results should store their values in a compact, read-only, columnar format, materialising records only when they are accessed.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchColumnarResults() {
+        return fetchColumnarResults;
+    }
+
+    /**
+     * Sets the value of the fetchColumnarResults property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchColumnarResults(Boolean value) {
+        this.fetchColumnarResults = value;
+    }
+
+    /**
+     * Whether fetched records should share their "original" values with their current values until the first modification, rather than keeping a separate copy. This halves the number of value arrays retained by records of large, read-only fetches. The copy is made lazily, when a record is first modified.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchSharedOriginals() {
+        return fetchSharedOriginals;
+    }
+
+    /**
+     * Sets the value of the fetchSharedOriginals property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchSharedOriginals(Boolean value) {
+        this.fetchSharedOriginals = value;
+    }
+
+    /**
+     * The estimated heap size in kilobytes that the records of an eagerly fetched Result may occupy, before further records are spilled to a temporary file, or 0 for no limit. Spilled records are read-only and materialised on each access, so unlike records kept in memory, they are detached copies, and modifications to them are lost. Spilling requires all values to be Serializable, and fails otherwise.
+     * 
+     */
+    public Integer getFetchResultMemoryBudget() {
+        return fetchResultMemoryBudget;
+    }
+
+    /**
+     * The estimated heap size in kilobytes that the records of an eagerly fetched Result may occupy, before further records are spilled to a temporary file, or 0 for no limit. Spilled records are read-only and materialised on each access, so unlike records kept in memory, they are detached copies, and modifications to them are lost. Spilling requires all values to be Serializable, and fails otherwise.
+     * 
+     */
+    public void setFetchResultMemoryBudget(Integer value) {
+        this.fetchResultMemoryBudget = value;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -4582,11 +4810,44 @@ public class Settings
         return this;
     }
 
+    public Settings withCacheParsedQueries(Boolean value) {
+        setCacheParsedQueries(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the parsed query cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheParsedQueriesLRUCacheSize(Integer value) {
+        setCacheParsedQueriesLRUCacheSize(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
     }
 
+    public Settings withCacheRenderedSQL(Boolean value) {
+        setCacheRenderedSQL(value);
+        return this;
+    }
+
+    public Settings withCachePreparedStatements(Boolean value) {
+        setCachePreparedStatements(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the PreparedStatement cache's LRU cache size, per connection.
+     * 
+     */
+    public Settings withCachePreparedStatementsLRUCacheSize(Integer value) {
+        setCachePreparedStatementsLRUCacheSize(value);
+        return this;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -4620,6 +4881,11 @@ public class Settings
         return this;
     }
 
+    public Settings withReturnIdentityOnBatchedRecords(Boolean value) {
+        setReturnIdentityOnBatchedRecords(value);
+        return this;
+    }
+
     public Settings withReturnRecordToPojo(Boolean value) {
         setReturnRecordToPojo(value);
         return this;
@@ -4690,6 +4956,34 @@ public class Settings
         return this;
     }
 
+    /**
+     * The number of rows that are requested in advance from an R2DBC <code>Result</code>, and buffered until they are requested by the downstream subscriber. More rows are requested when 75% of the prefetched rows have been consumed. A value of 1 requests one row at a time.
+     * 
+     */
+    public Settings withR2dbcPrefetch(Integer value) {
+        setR2dbcPrefetch(value);
+        return this;
+    }
+
+    public Settings withFetchColumnarResults(Boolean value) {
+        setFetchColumnarResults(value);
+        return this;
+    }
+
+    public Settings withFetchSharedOriginals(Boolean value) {
+        setFetchSharedOriginals(value);
+        return this;
+    }
+
+    /**
+     * The estimated heap size in kilobytes that the records of an eagerly fetched Result may occupy, before further records are spilled to a temporary file, or 0 for no limit. Spilled records are read-only and materialised on each access, so unlike records kept in memory, they are detached copies, and modifications to them are lost. Spilling requires all values to be Serializable, and fails otherwise.
+     * 
+     */
+    public Settings withFetchResultMemoryBudget(Integer value) {
+        setFetchResultMemoryBudget(value);
+        return this;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -5179,12 +5473,18 @@ public class Settings
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cacheParsingConnection", cacheParsingConnection);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheParsedQueries", cacheParsedQueries);
+        builder.append("cacheParsedQueriesLRUCacheSize", cacheParsedQueriesLRUCacheSize);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
+        builder.append("cacheRenderedSQL", cacheRenderedSQL);
+        builder.append("cachePreparedStatements", cachePreparedStatements);
+        builder.append("cachePreparedStatementsLRUCacheSize", cachePreparedStatementsLRUCacheSize);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
         builder.append("returnIdentityOnUpdatableRecord", returnIdentityOnUpdatableRecord);
         builder.append("returnAllOnUpdatableRecord", returnAllOnUpdatableRecord);
+        builder.append("returnIdentityOnBatchedRecords", returnIdentityOnBatchedRecords);
         builder.append("returnRecordToPojo", returnRecordToPojo);
         builder.append("mapJPAAnnotations", mapJPAAnnotations);
         builder.append("mapRecordComponentParameterNames", mapRecordComponentParameterNames);
@@ -5195,6 +5495,10 @@ public class Settings
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("r2dbcPrefetch", r2dbcPrefetch);
+        builder.append("fetchColumnarResults", fetchColumnarResults);
+        builder.append("fetchSharedOriginals", fetchSharedOriginals);
+        builder.append("fetchResultMemoryBudget", fetchResultMemoryBudget);
         builder.append("batchSize", batchSize);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
@@ -6072,6 +6376,24 @@ public class Settings
                 return false;
             }
         }
+        if (cacheParsedQueries == null) {
+            if (other.cacheParsedQueries!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsedQueries.equals(other.cacheParsedQueries)) {
+                return false;
+            }
+        }
+        if (cacheParsedQueriesLRUCacheSize == null) {
+            if (other.cacheParsedQueriesLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsedQueriesLRUCacheSize.equals(other.cacheParsedQueriesLRUCacheSize)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -6081,6 +6403,33 @@ public class Settings
                 return false;
             }
         }
+        if (cacheRenderedSQL == null) {
+            if (other.cacheRenderedSQL!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedSQL.equals(other.cacheRenderedSQL)) {
+                return false;
+            }
+        }
+        if (cachePreparedStatements == null) {
+            if (other.cachePreparedStatements!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatements.equals(other.cachePreparedStatements)) {
+                return false;
+            }
+        }
+        if (cachePreparedStatementsLRUCacheSize == null) {
+            if (other.cachePreparedStatementsLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatementsLRUCacheSize.equals(other.cachePreparedStatementsLRUCacheSize)) {
+                return false;
+            }
+        }
         if (throwExceptions == null) {
             if (other.throwExceptions!= null) {
                 return false;
@@ -6126,6 +6475,15 @@ public class Settings
                 return false;
             }
         }
+        if (returnIdentityOnBatchedRecords == null) {
+            if (other.returnIdentityOnBatchedRecords!= null) {
+                return false;
+            }
+        } else {
+            if (!returnIdentityOnBatchedRecords.equals(other.returnIdentityOnBatchedRecords)) {
+                return false;
+            }
+        }
         if (returnRecordToPojo == null) {
             if (other.returnRecordToPojo!= null) {
                 return false;
@@ -6216,6 +6574,42 @@ public class Settings
                 return false;
             }
         }
+        if (r2dbcPrefetch == null) {
+            if (other.r2dbcPrefetch!= null) {
+                return false;
+            }
+        } else {
+            if (!r2dbcPrefetch.equals(other.r2dbcPrefetch)) {
+                return false;
+            }
+        }
+        if (fetchColumnarResults == null) {
+            if (other.fetchColumnarResults!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchColumnarResults.equals(other.fetchColumnarResults)) {
+                return false;
+            }
+        }
+        if (fetchSharedOriginals == null) {
+            if (other.fetchSharedOriginals!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchSharedOriginals.equals(other.fetchSharedOriginals)) {
+                return false;
+            }
+        }
+        if (fetchResultMemoryBudget == null) {
+            if (other.fetchResultMemoryBudget!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchResultMemoryBudget.equals(other.fetchResultMemoryBudget)) {
+                return false;
+            }
+        }
         if (batchSize == null) {
             if (other.batchSize!= null) {
                 return false;
@@ -6727,12 +7121,18 @@ public class Settings
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheParsedQueries == null)? 0 :cacheParsedQueries.hashCode()));
+        result = ((prime*result)+((cacheParsedQueriesLRUCacheSize == null)? 0 :cacheParsedQueriesLRUCacheSize.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
+        result = ((prime*result)+((cacheRenderedSQL == null)? 0 :cacheRenderedSQL.hashCode()));
+        result = ((prime*result)+((cachePreparedStatements == null)? 0 :cachePreparedStatements.hashCode()));
+        result = ((prime*result)+((cachePreparedStatementsLRUCacheSize == null)? 0 :cachePreparedStatementsLRUCacheSize.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
         result = ((prime*result)+((returnIdentityOnUpdatableRecord == null)? 0 :returnIdentityOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnAllOnUpdatableRecord == null)? 0 :returnAllOnUpdatableRecord.hashCode()));
+        result = ((prime*result)+((returnIdentityOnBatchedRecords == null)? 0 :returnIdentityOnBatchedRecords.hashCode()));
         result = ((prime*result)+((returnRecordToPojo == null)? 0 :returnRecordToPojo.hashCode()));
         result = ((prime*result)+((mapJPAAnnotations == null)? 0 :mapJPAAnnotations.hashCode()));
         result = ((prime*result)+((mapRecordComponentParameterNames == null)? 0 :mapRecordComponentParameterNames.hashCode()));
@@ -6743,6 +7143,10 @@ public class Settings
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((r2dbcPrefetch == null)? 0 :r2dbcPrefetch.hashCode()));
+        result = ((prime*result)+((fetchColumnarResults == null)? 0 :fetchColumnarResults.hashCode()));
+        result = ((prime*result)+((fetchSharedOriginals == null)? 0 :fetchSharedOriginals.hashCode()));
+        result = ((prime*result)+((fetchResultMemoryBudget == null)? 0 :fetchResultMemoryBudget.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
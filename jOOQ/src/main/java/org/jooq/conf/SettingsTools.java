@@ -200,6 +200,13 @@ public final class SettingsTools {
         return defaultIfNull(settings.isCacheParsingConnection(), true);
     }
 
+    /**
+     * Whether parsed query caching is active.
+     */
+    public static final boolean parsedQueryCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheParsedQueries(), false);
+    }
+
     /**
      * The render locale that is applicable, or the default locale if no such
      * locale is configured.
@@ -78,6 +78,7 @@ import org.jooq.ForeignKey;
 import org.jooq.JoinType;
 import org.jooq.LanguageContext;
 // ...
+import org.jooq.Query;
 import org.jooq.QueryPart;
 import org.jooq.QueryPartInternal;
 import org.jooq.RenderContext;
@@ -131,6 +132,7 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
     int                                            scopeMarking;
     final ScopeStack<QueryPart, ScopeStackElement> scopeStack;
     int                                            skipUpdateCounts;
+    int                                            queries;
 
     // [#2665] VisitListener API
     private final VisitListener[]                  visitListenersStart;
@@ -226,6 +228,8 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
     @Override
     public final C visit(QueryPart part) {
         if (part != null) {
+            if (part instanceof Query)
+                queries++;
 
             // Issue start clause events
             // -----------------------------------------------------------------
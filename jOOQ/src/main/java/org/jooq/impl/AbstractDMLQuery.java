@@ -215,22 +215,26 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
 
     // @Override
     public final void setReturning() {
+        invalidateRendered();
         setReturning(table.fields());
     }
 
     // @Override
     public final void setReturning(Identity<R, ?> identity) {
+        invalidateRendered();
         if (identity != null)
             setReturning(identity.getField());
     }
 
     // @Override
     public final void setReturning(SelectFieldOrAsterisk... fields) {
+        invalidateRendered();
         setReturning(Arrays.asList(fields));
     }
 
     // @Override
     public final void setReturning(Collection<? extends SelectFieldOrAsterisk> fields) {
+        invalidateRendered();
         returning.clear();
         returning.addAll(fields.isEmpty() ? Arrays.asList(table.fields()) : fields);
 
@@ -46,6 +46,7 @@ import static org.jooq.ExecuteType.DDL;
 // ...
 // ...
 import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
 import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.conf.ThrowExceptions.THROW_NONE;
@@ -55,6 +56,7 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeExceptions;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_FORCE_STATIC_STATEMENT;
+import static org.jooq.impl.Tools.DataKey.DATA_BATCH_CRUD_COLLECTOR;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -74,6 +76,7 @@ import org.jooq.Record;
 import org.jooq.RenderContext;
 import org.jooq.Select;
 import org.jooq.conf.QueryPoolable;
+import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.conf.StatementType;
 import org.jooq.exception.ControlFlowSignal;
@@ -95,6 +98,9 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
     transient PreparedStatement     statement;
     transient int                   statementExecutionCount;
     transient Rendered              rendered;
+    transient String                renderedSQL;
+    transient Configuration         renderedConfiguration;
+    transient Settings              renderedSettings;
 
     AbstractQuery(Configuration configuration) {
         super(configuration);
@@ -160,6 +166,22 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         return this;
     }
 
+    /**
+     * Discard the SQL string cached by {@link Settings#isCacheRenderedSQL()},
+     * e.g. because the query has been modified.
+     */
+    final void invalidateRendered() {
+        renderedConfiguration = null;
+    }
+
+    /**
+     * Whether this query invalidates its cached SQL string on all of its
+     * modifications, and can thus cache it.
+     */
+    boolean cacheableRendered() {
+        return false;
+    }
+
     /**
      * Close the statement if necessary.
      * <p>
@@ -171,6 +193,11 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
      */
     private final void closeIfNecessary(Param<?> param) {
 
+        // Cached SQL strings contain inlined bind values, which need to be
+        // rendered again
+        if (param.isInline() || getParamType(configuration().settings()) == INLINED)
+            invalidateRendered();
+
         // This is relevant when there is an open statement, only
         if (keepStatement() && statement != null) {
 
@@ -257,6 +284,17 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
             // Get the attached configuration of this query
             Configuration c = configuration();
 
+            // Batched record operations collect their queries without
+            // executing (or rendering) them
+            BatchCRUD.Collector collector = c != null
+                ? (BatchCRUD.Collector) c.data(DATA_BATCH_CRUD_COLLECTOR)
+                : null;
+
+            if (collector != null) {
+                collector.collect(this);
+                return 0;
+            }
+
             // [#1191] The following triggers a start event on all listeners.
             //         This may be used to provide jOOQ with a JDBC connection,
             //         in case this Query / Configuration was previously
@@ -284,11 +322,41 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
 
                 // [#385] First time statement preparing
                 else {
-                    listener.renderStart(ctx);
-                    rendered = getSQL0(ctx);
-                    ctx.sql(rendered.sql);
-                    listener.renderEnd(ctx);
-                    rendered.sql = ctx.sql();
+
+                    // Re-use previously rendered SQL, if the query is executed
+                    // again with the same configuration, rebinding only the
+                    // bind values. Render events are still fired.
+                    if (rendered != null
+                            && renderedConfiguration == c
+                            && renderedSettings.equals(c.settings())
+                            && rendered.bindValues != null) {
+                        listener.renderStart(ctx);
+                        ctx.sql(renderedSQL);
+                        listener.renderEnd(ctx);
+                        rendered.sql = ctx.sql();
+                    }
+                    else {
+                        renderedConfiguration = null;
+                        listener.renderStart(ctx);
+                        rendered = getSQL0(ctx);
+                        renderedSQL = rendered.sql;
+                        ctx.sql(rendered.sql);
+                        listener.renderEnd(ctx);
+                        rendered.sql = ctx.sql();
+
+                        // SQL strings with inlined bind values can't be re-used
+                        if (TRUE.equals(c.settings().isCacheRenderedSQL())
+                                && cacheableRendered()
+                                && rendered.bindValues != null
+                                && !rendered.nestedQueries
+                                && getParamType(c.settings()) != INLINED
+                                && getParamType(c.settings()) != NAMED_OR_INLINED) {
+                            renderedConfiguration = c;
+
+                            // The Settings object may be modified between executions
+                            renderedSettings = SettingsTools.clone(c.settings());
+                        }
+                    }
 
                     // [#3234] Defer initialising of a connection until the prepare step
                     // This optimises unnecessary ConnectionProvider.acquire() calls when
@@ -365,7 +433,13 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
 
                 if (!keepStatement()) {
                     statement = null;
-                    rendered = null;
+
+                    if (renderedConfiguration == null || ctx.exception() != null) {
+                        rendered = null;
+                        renderedSQL = null;
+                        renderedConfiguration = null;
+                        renderedSettings = null;
+                    }
                 }
             }
         }
@@ -473,6 +547,7 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
                 render = new DefaultRenderContext(c);
                 render.data(DATA_COUNT_BIND_VALUES, true);
                 result = new Rendered(render.visit(this).render(), render.bindValues(), render.skipUpdateCounts());
+                result.nestedQueries = render.queries > 1;
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
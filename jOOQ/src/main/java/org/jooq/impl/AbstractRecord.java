@@ -120,7 +120,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final AbstractRow<? extends AbstractRecord> fields;
     final Object[]                              values;
-    final Object[]                              originals;
+    Object[]                                    originals;
     final BitSet                                changed;
     boolean                                     fetched;
 
@@ -149,6 +149,23 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         this.changed = new BitSet(size);
     }
 
+    /**
+     * Let {@link #originals} share the {@link #values} array until the first
+     * modification.
+     */
+    final void shareOriginals() {
+        originals = values;
+    }
+
+    /**
+     * Make sure {@link #originals} is a distinct copy of {@link #values} prior
+     * to modifying {@link #values} independently.
+     */
+    final void unshareOriginals() {
+        if (originals == values)
+            originals = values.clone();
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Attachable API
     // ------------------------------------------------------------------------
@@ -434,6 +451,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         //        To allow for explicitly overriding default values
         // [#979] Avoid modifying chnaged flag on unchanged primary key values
 
+        unshareOriginals();
         UniqueKey<?> key = getPrimaryKey();
 
         // Normal fields' changed flag is always set to true
@@ -490,6 +508,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     final void setValues(Field<?>[] fields, AbstractRecord record) {
+        unshareOriginals();
         fetched = record.fetched;
 
         for (Field<?> field : fields) {
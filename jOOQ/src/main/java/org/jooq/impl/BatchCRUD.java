@@ -37,19 +37,49 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.H2;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.SQLDialect.YUGABYTEDB;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.getParamType;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.isEmpty;
+import static org.jooq.impl.Tools.DataKey.DATA_BATCH_CRUD_COLLECTOR;
 
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
+import org.jooq.DeleteQuery;
 import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.Identity;
+import org.jooq.InsertQuery;
 import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
 import org.jooq.TableRecord;
+import org.jooq.UniqueKey;
 import org.jooq.UpdatableRecord;
+import org.jooq.conf.ParamType;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
 import org.jooq.tools.JooqLogger;
@@ -59,9 +89,17 @@ import org.jooq.tools.JooqLogger;
  */
 final class BatchCRUD extends AbstractBatch {
 
-    private static final JooqLogger log = JooqLogger.getLogger(BatchCRUD.class);
-    private final TableRecord<?>[]  records;
-    private final Action            action;
+    private static final JooqLogger      log                          = JooqLogger.getLogger(BatchCRUD.class);
+    private static final Set<SQLDialect> SUPPORT_MULTI_ROW_RETURNING  = SQLDialect.supportedBy(H2, MARIADB, MYSQL, POSTGRES, YUGABYTEDB);
+    private static final Set<SQLDialect> SUPPORT_BATCH_GENERATED_KEYS = SQLDialect.supportedBy(H2, MARIADB, MYSQL, POSTGRES, YUGABYTEDB);
+
+    /**
+     * The maximum number of bind values per multi row <code>INSERT</code>,
+     * corresponding to the lowest limit among supporting dialects.
+     */
+    private static final int             MAX_BIND_VALUES              = 32767;
+    private final TableRecord<?>[]       records;
+    private final Action                 action;
 
     BatchCRUD(Configuration configuration, Action action, TableRecord<?>[] records) {
         super(configuration);
@@ -87,14 +125,23 @@ final class BatchCRUD extends AbstractBatch {
     }
 
     private final Configuration deriveConfiguration(QueryCollector collector) {
-        Configuration local = configuration.deriveAppending(collector);
+        return deriveSettings(configuration.deriveAppending(collector));
+    }
 
+    private final Configuration deriveConfiguration(Collector collector) {
+        Configuration local = configuration.derive();
+        local.data(DATA_BATCH_CRUD_COLLECTOR, collector);
+        return deriveSettings(local);
+    }
+
+    private static final Configuration deriveSettings(Configuration local) {
         local.settings()
 
             // [#1529] Avoid DEBUG logging of single INSERT / UPDATE statements
             .withExecuteLogging(false)
 
-            // [#3327] [#11509] We can't return generated keys from batches (yet)
+            // [#3327] [#11509] Records can't return generated keys from batches.
+            //                  Where supported, the Batch fetches them instead
             .withReturnAllOnUpdatableRecord(false)
             .withReturnIdentityOnUpdatableRecord(false);
 
@@ -102,6 +149,74 @@ final class BatchCRUD extends AbstractBatch {
     }
 
     private final int[] executePrepared() {
+
+        // Optimistic locking may need to fetch records prior to
+        // updating or deleting them, which requires aborting the record's
+        // execution after rendering
+        if (TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking()))
+            return executePreparedWithSignal();
+
+        // Inlined bind values are part of the SQL string, which can't be
+        // shared among queries of the same shape
+        ParamType paramType = getParamType(configuration.settings());
+        if (paramType == INLINED || paramType == NAMED_OR_INLINED)
+            return executePreparedWithSignal();
+
+        // RecordListeners expect the record's execution to be aborted after
+        // rendering, rather than to be completed with 0 affected rows
+        if (!isEmpty(configuration.recordListenerProviders()))
+            return executePreparedWithSignal();
+
+        Collector collector = new Collector();
+        Configuration local = deriveConfiguration(collector);
+
+        for (int i = 0; i < records.length; i++) {
+            Configuration previous = records[i].configuration();
+
+            try {
+                records[i].attach(local);
+                collector.record = records[i];
+                executeAction(i);
+            }
+            finally {
+                records[i].attach(previous);
+            }
+        }
+
+        // Render each distinct shape only once, and aggregate the bind values
+        // of all of its queries by identical SQL, in the order of execution
+        Map<Shape, String> sql = new HashMap<>();
+        Map<String, Batch> batches = new LinkedHashMap<>();
+
+        for (int i = 0; i < collector.shapes.size(); i++) {
+            Shape shape = collector.shapes.get(i);
+
+            batches.computeIfAbsent(
+                sql.computeIfAbsent(shape, s -> dsl.render(s.query)),
+                s -> new Batch()
+            ).add(shape.query, collector.records.get(i), collector.bindValues.get(i));
+        }
+
+        if (log.isDebugEnabled())
+            log.debug("Batch " + action + " of " + records.length + " records using " + batches.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + (batches.isEmpty() ? 0.0 : (double) collector.shapes.size() / batches.size()) + " (higher is better)");
+
+        // Execute one batch statement for each identical SQL statement. Every
+        // SQL statement may have several queries with different bind values.
+        // The order is preserved as much as possible
+        List<Integer> result = new ArrayList<>();
+        for (Batch batch : batches.values())
+            for (int i : batch.execute())
+                result.add(i);
+
+        int[] array = new int[result.size()];
+        for (int i = 0; i < result.size(); i++)
+            array[i] = result.get(i);
+
+        updateChangedFlag();
+        return array;
+    }
+
+    private final int[] executePreparedWithSignal() {
         Map<String, List<Query>> queries = new LinkedHashMap<>();
         QueryCollector collector = new QueryCollector();
 
@@ -263,6 +378,273 @@ final class BatchCRUD extends AbstractBatch {
         }
     }
 
+    /**
+     * Collect queries without rendering them.
+     * <p>
+     * {@link AbstractQuery#execute()} passes queries to this collector instead
+     * of executing them, if it is found in the {@link Configuration#data()}.
+     * Unlike the {@link QueryCollector}, this doesn't abort the record's
+     * execution, which proceeds as if no rows had been affected.
+     */
+    static final class Collector {
+        final List<Shape>          shapes     = new ArrayList<>();
+        final List<TableRecord<?>> records    = new ArrayList<>();
+        final List<Object[]>       bindValues = new ArrayList<>();
+        TableRecord<?>             record;
+
+        final void collect(Query query) {
+            Object[] values = query.getBindValues().toArray();
+
+            shapes.add(new Shape(query, record, values));
+            records.add(record);
+            bindValues.add(values);
+        }
+    }
+
+    /**
+     * The queries of records sharing the same SQL string.
+     */
+    private final class Batch {
+        final List<Query>          queries    = new ArrayList<>();
+        final List<TableRecord<?>> records    = new ArrayList<>();
+        final List<Object[]>       bindValues = new ArrayList<>();
+
+        final void add(Query query, TableRecord<?> record, Object[] values) {
+            queries.add(query);
+            records.add(record);
+            bindValues.add(values);
+        }
+
+        final int[] execute() {
+            Collection<Field<?>> key = returning();
+
+            if (key != null)
+                return executeReturning(key);
+
+            BatchBindStep batch = dsl.batch(queries.get(0));
+            for (Object[] values : bindValues)
+                batch.bind(values);
+
+            return batch.execute();
+        }
+
+        /**
+         * The fields to be fetched back into the records, or <code>null</code>
+         * if this isn't possible or necessary.
+         */
+        private final Collection<Field<?>> returning() {
+            if (!TRUE.equals(configuration.settings().isReturnIdentityOnBatchedRecords())
+                    || !SUPPORT_MULTI_ROW_RETURNING.contains(configuration.dialect()))
+                return null;
+
+            Query query = queries.get(0);
+            TableRecord<?> record = records.get(0);
+
+            // [#3327] Only plain INSERT statements with explicit values can be
+            // combined into a multi row INSERT
+            if (!(query instanceof InsertQueryImpl)
+                    || ((InsertQueryImpl<?>) query).onDuplicateKeyUpdate
+                    || ((InsertQueryImpl<?>) query).getInsertMaps().lastMap().isEmpty()
+                    || !(record instanceof TableRecordImpl))
+                return null;
+
+            Collection<Field<?>> key = ((TableRecordImpl<?>) record).returning(configuration.settings(), true);
+
+            // Without an identity, only the inserted key values would be returned
+            if (key == null
+                    || key.isEmpty()
+                    || record.getTable().getIdentity() == null && !TRUE.equals(configuration.settings().isReturnAllOnUpdatableRecord()))
+                return null;
+
+            return key;
+        }
+
+        /**
+         * A unique key whose values are inserted explicitly by all queries,
+         * or <code>null</code> if there is no such key.
+         */
+        private final Field<?>[] match() {
+            keys:
+            for (UniqueKey<?> uk : records.get(0).getTable().getKeys()) {
+                for (TableRecord<?> record : records)
+                    for (Field<?> field : uk.getFields())
+                        if (!record.changed(field) || record.get(field) == null)
+                            continue keys;
+
+                return uk.getFieldsArray();
+            }
+
+            return null;
+        }
+
+        /**
+         * Execute the queries as multi row <code>INSERT .. RETURNING</code>
+         * statements.
+         * <p>
+         * The order of returned rows isn't guaranteed, so they are matched
+         * back to the records by a unique key, whose values are inserted
+         * explicitly. If there is no such key, the queries are executed as a
+         * JDBC batch, fetching {@link Statement#getGeneratedKeys()}, or as a
+         * last resort, as single row <code>INSERT .. RETURNING</code>
+         * statements.
+         */
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private final int[] executeReturning(Collection<Field<?>> key) {
+            Field<?>[] match = match();
+
+            if (match == null) {
+                Field<?>[] generated = generated(key);
+
+                if (generated != null)
+                    return executeGenerated(generated);
+            }
+
+            int[] result = new int[queries.size()];
+            int size = match == null ? 1 : Math.max(1, MAX_BIND_VALUES / Math.max(1, bindValues.get(0).length));
+
+            Set<Field<?>> returning = new LinkedHashSet<>(key);
+            if (match != null)
+                returning.addAll(Arrays.asList(match));
+
+            for (int from = 0; from < queries.size(); from += size) {
+                int to = Math.min(from + size, queries.size());
+                InsertQuery insert = dsl.insertQuery(records.get(0).getTable());
+
+                for (int i = from; i < to; i++) {
+                    insert.newRecord();
+                    insert.addValues(((InsertQueryImpl<?>) queries.get(i)).getInsertMaps().lastMap());
+                }
+
+                insert.setReturning(returning);
+                insert.execute();
+                Result<?> returned = insert.getReturnedRecords();
+
+                if (match == null) {
+                    if (!returned.isEmpty())
+                        ((TableRecordImpl) records.get(from)).getReturningIfNeeded((TableRecord) returned.get(0), key);
+
+                    result[from] = returned.isEmpty() ? 0 : 1;
+                }
+                else {
+                    Map<Record, Record> rows = new HashMap<>();
+                    for (Record r : returned)
+                        rows.put(r.into(match), r);
+
+                    for (int i = from; i < to; i++) {
+                        Record r = rows.get(records.get(i).into(match));
+
+                        if (r != null)
+                            ((TableRecordImpl) records.get(i)).getReturningIfNeeded((TableRecord) r, key);
+
+                        result[i] = r != null ? 1 : 0;
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * The fields that can be fetched from a JDBC batch's
+         * {@link Statement#getGeneratedKeys()}, or <code>null</code> if this
+         * isn't supported.
+         */
+        private final Field<?>[] generated(Collection<Field<?>> key) {
+            if (!SUPPORT_BATCH_GENERATED_KEYS.contains(configuration.dialect()))
+                return null;
+
+            switch (configuration.family()) {
+
+                // Only AUTO_INCREMENT values can be fetched, other values are
+                // refreshed by TableRecordImpl, if needed
+                case MARIADB:
+                case MYSQL: {
+                    Identity<?, ?> identity = records.get(0).getTable().getIdentity();
+                    return identity == null ? null : new Field[] { identity.getField() };
+                }
+
+                default:
+                    return key.toArray(EMPTY_FIELD);
+            }
+        }
+
+        /**
+         * Execute the queries as a JDBC batch, and apply the generated keys,
+         * which drivers return in bind order, to the records.
+         */
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private final int[] executeGenerated(Field<?>[] generated) {
+            BatchSingle batch = new BatchSingle(configuration, queries.get(0));
+            for (Object[] values : bindValues)
+                batch.bind(values);
+
+            return batch.executeReturning(generated, returned -> {
+                if (returned.size() == records.size()) {
+                    for (int i = 0; i < records.size(); i++)
+                        ((TableRecordImpl) records.get(i)).getReturningIfNeeded((TableRecord) returned.get(i).into(records.get(i).getTable()), Arrays.asList(generated));
+                }
+                else if (log.isDebugEnabled())
+                    log.debug("Batch generated keys", "Cannot apply " + returned.size() + " generated keys to " + records.size() + " records");
+            });
+        }
+    }
+
+    /**
+     * The shape of a record's query, which determines its SQL string.
+     * <p>
+     * Queries of the same shape are produced from the same type of statement
+     * on the same table, setting the same changed fields, and binding
+     * <code>NULL</code> values at the same positions (which may affect
+     * rendering in some dialects).
+     */
+    private static final class Shape {
+        final Query          query;
+        final Class<?>       type;
+        final Table<?>       table;
+        final Object         changed;
+        final BitSet         nulls;
+        final int            size;
+
+        Shape(Query query, TableRecord<?> record, Object[] values) {
+            this.query = query;
+            this.type = query.getClass();
+            this.table = record.getTable();
+
+            // DELETE statements don't depend on the changed flags
+            this.changed = query instanceof DeleteQuery
+                ? null
+                : record instanceof AbstractRecord
+                ? ((AbstractRecord) record).changed.clone()
+                : query;
+            this.nulls = new BitSet(values.length);
+            this.size = values.length;
+
+            for (int i = 0; i < values.length; i++)
+                if (values[i] == null)
+                    nulls.set(i);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, table, changed, nulls, size);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Shape))
+                return false;
+
+            Shape other = (Shape) obj;
+            return type == other.type
+                && table.equals(other.table)
+                && Objects.equals(changed, other.changed)
+                && nulls.equals(other.nulls)
+                && size == other.size;
+        }
+    }
+
     /**
      * A query execution interception signal.
      * <p>
@@ -39,24 +39,33 @@ package org.jooq.impl;
 
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.Tools.fields;
 import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.visitAll;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
 import org.jooq.Param;
 import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.conf.RenderNameCase;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.impl.R2DBC.BatchSingleSubscriber;
@@ -185,7 +194,24 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                     log.info("Bind value count", "Batch bind value set " + i + " has " + allBindValues.get(i).length + " values when " + expectedBindValues + " values were expected");
     }
 
+    /**
+     * Execute the batch, and fetch the keys generated by all bind value sets
+     * through {@link Statement#getGeneratedKeys()}.
+     * <p>
+     * Drivers return these keys in bind order. In the MySQL dialect family,
+     * only the <code>AUTO_INCREMENT</code> value can be fetched, so the
+     * <code>keys</code> argument must contain only the identity.
+     */
+    final int[] executeReturning(Field<?>[] keys, Consumer<? super Result<Record>> returned) {
+        checkBindValues();
+        return executePrepared(keys, returned);
+    }
+
     private final int[] executePrepared() {
+        return executePrepared(null, null);
+    }
+
+    private final int[] executePrepared(Field<?>[] keys, Consumer<? super Result<Record>> returned) {
         ExecuteContext ctx = new DefaultExecuteContext(configuration, new Query[] { query });
         ExecuteListener listener = ExecuteListeners.get(ctx);
         Connection connection = ctx.connection();
@@ -203,7 +229,7 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
 
             listener.prepareStart(ctx);
             if (ctx.statement() == null)
-                ctx.statement(connection.prepareStatement(ctx.sql()));
+                ctx.statement(prepare(ctx, connection, keys));
             listener.prepareEnd(ctx);
 
             // [#9295] use query timeout from settings
@@ -235,6 +261,10 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                 batchRows[i] = result[i];
 
             listener.executeEnd(ctx);
+
+            if (keys != null)
+                returned.accept(dsl.fetch(ctx.statement().getGeneratedKeys(), keys));
+
             return result;
         }
 
@@ -257,6 +287,33 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         }
     }
 
+    private final PreparedStatement prepare(ExecuteContext ctx, Connection connection, Field<?>[] keys) throws SQLException {
+        if (keys == null)
+            return connection.prepareStatement(ctx.sql());
+
+        switch (ctx.family()) {
+            case MARIADB:
+            case MYSQL:
+                return connection.prepareStatement(ctx.sql(), Statement.RETURN_GENERATED_KEYS);
+
+            // [#2845] Field names should be passed to JDBC in the case imposed
+            //         by the user, see AbstractDMLQuery
+            default: {
+                RenderNameCase style = SettingsTools.getRenderNameCase(configuration.settings());
+                Locale locale = renderLocale(configuration.settings());
+
+                return connection.prepareStatement(ctx.sql(), map(keys,
+                      style == RenderNameCase.UPPER
+                    ? f -> f.getName().toUpperCase(locale)
+                    : style == RenderNameCase.LOWER
+                    ? f -> f.getName().toLowerCase(locale)
+                    : f -> f.getName(),
+                    String[]::new
+                ));
+            }
+        }
+    }
+
     final Param<?>[] extractParams() {
         // [#1371] fetch bind variables to restore them again, later
         // [#3940] Don't include inlined bind variables
@@ -37,8 +37,6 @@
  */
 package org.jooq.impl;
 
-import static org.jooq.tools.StringUtils.defaultIfNull;
-
 import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -73,36 +71,41 @@ final class Cache {
         if (!type.category.predicate.test(configuration.settings()))
             return operation.get();
 
-        Object cacheOrNull = configuration.data(type);
-        if (cacheOrNull == null) {
+        Object contextOrNull = configuration.data(type);
+        if (contextOrNull == null) {
             synchronized (type) {
-                cacheOrNull = configuration.data(type);
+                contextOrNull = configuration.data(type);
 
-                if (cacheOrNull == null)
-                    configuration.data(type, cacheOrNull = defaultIfNull(
-                        configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)),
-                        NULL
-                    ));
+                if (contextOrNull == null) {
+                    DefaultCacheContext c = new DefaultCacheContext(configuration, type);
+                    c.cache = configuration.cacheProvider().provide(c);
+                    configuration.data(type, contextOrNull = c);
+                }
             }
         }
 
-        if (cacheOrNull == NULL)
+        DefaultCacheContext context = (DefaultCacheContext) contextOrNull;
+        Map<Object, Object> cache = context.cache;
+        if (cache == null)
             return operation.get();
 
         // The cache is guaranteed to be thread safe by the CacheProvider
-        // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
-        Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
+        // contract. Since we cannot use ConcurrentHashMap.computeIfAbsent()
+        // recursively, the operation is run without holding any locks, and
+        // the first value to be put in the cache wins. Concurrent misses on
+        // the same key may thus run the (idempotent) operation more than once.
         Object k = key.get();
         Object v = cache.get(k);
         if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
+            context.recordMiss();
 
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
-            }
+            v = operation.get();
+            Object previous = cache.putIfAbsent(k, v == null ? NULL : v);
+            if (previous != null)
+                v = previous;
         }
+        else
+            context.recordHit();
 
         return (V) (v == NULL ? null : v);
     }
@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 
+import static org.jooq.impl.CacheType.CacheCategory.PARSER;
 import static org.jooq.impl.CacheType.CacheCategory.PARSING_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.RECORD_MAPPER;
 import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
@@ -47,6 +48,7 @@ import java.util.function.Predicate;
 import org.jooq.CacheProvider;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.Parser;
 import org.jooq.RecordMapper;
 import org.jooq.RecordType;
 import org.jooq.conf.Settings;
@@ -121,7 +123,14 @@ public enum CacheType {
      * [#8334] A cache for SQL to SQL translations in the
      * {@link DSLContext#parsingConnection()}, to speed up its usage.
      */
-    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection"),
+
+    /**
+     * A cache for SQL to SQL translations of direct {@link Parser#parseQuery(String)}
+     * and {@link Parser#parseResultQuery(String)} calls, keyed by SQL strings
+     * whose literals have been normalised to bind values.
+     */
+    CACHE_PARSED_QUERIES(PARSER, "org.jooq.configuration.cache.parsed-queries");
 
     final CacheCategory category;
     final String        key;
@@ -134,7 +143,8 @@ public enum CacheType {
     enum CacheCategory {
         REFLECTION(SettingsTools::reflectionCaching),
         RECORD_MAPPER(SettingsTools::recordMapperCaching),
-        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching);
+        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching),
+        PARSER(SettingsTools::parsedQueryCaching);
 
         final Predicate<? super Settings> predicate;
 
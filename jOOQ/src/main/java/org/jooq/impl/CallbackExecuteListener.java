@@ -39,6 +39,7 @@ package org.jooq.impl;
 
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteEventHandler;
+import org.jooq.ExecuteEventType;
 import org.jooq.ExecuteListener;
 
 /**
@@ -123,6 +124,35 @@ public final class CallbackExecuteListener implements ExecuteListener {
         this.onWarning = onWarning;
     }
 
+    /**
+     * Whether a handler has been registered for an event.
+     */
+    final boolean handles(ExecuteEventType type) {
+        switch (type) {
+            case START:         return onStart != null;
+            case RENDER_START:  return onRenderStart != null;
+            case RENDER_END:    return onRenderEnd != null;
+            case PREPARE_START: return onPrepareStart != null;
+            case PREPARE_END:   return onPrepareEnd != null;
+            case BIND_START:    return onBindStart != null;
+            case BIND_END:      return onBindEnd != null;
+            case EXECUTE_START: return onExecuteStart != null;
+            case EXECUTE_END:   return onExecuteEnd != null;
+            case OUT_START:     return onOutStart != null;
+            case OUT_END:       return onOutEnd != null;
+            case FETCH_START:   return onFetchStart != null;
+            case RESULT_START:  return onResultStart != null;
+            case RECORD_START:  return onRecordStart != null;
+            case RECORD_END:    return onRecordEnd != null;
+            case RESULT_END:    return onResultEnd != null;
+            case FETCH_END:     return onFetchEnd != null;
+            case END:           return onEnd != null;
+            case EXCEPTION:     return onException != null;
+            case WARNING:       return onWarning != null;
+            default:            return true;
+        }
+    }
+
     @Override
     public final void start(ExecuteContext ctx) {
         if (onStart != null)
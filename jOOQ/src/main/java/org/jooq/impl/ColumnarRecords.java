@@ -0,0 +1,444 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.Record;
+
+/**
+ * A read-only, columnar storage for the records of a {@link ResultImpl}.
+ * <p>
+ * Values of <code>Integer</code>, <code>Long</code>, <code>Double</code>, and
+ * <code>Boolean</code> columns are stored in primitive arrays with a separate
+ * <code>NULL</code> bitmap, and <code>String</code> values are dictionary
+ * encoded. All other values are stored in plain <code>Object[]</code> columns.
+ * <p>
+ * Records are materialised from the columns on each access. Modifications to
+ * such records aren't reflected in this storage, and all list modifications,
+ * except for sorting, throw {@link UnsupportedOperationException}. Sorting
+ * permutes an index rather than the columns.
+ *
+ * @author Lukas Eder
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Serializable {
+
+    /**
+     * The maximum number of distinct values in a dictionary encoded column,
+     * before it falls back to storing values as objects.
+     */
+    static final int                  MAX_DICTIONARY_SIZE = 1 << 16;
+
+    private final AbstractFormattable result;
+    private final Supplier<R>         factory;
+    private final Column[]            columns;
+    private int                       size;
+
+    /**
+     * The physical index of each record after sorting, or <code>null</code> if
+     * the records have not been sorted.
+     */
+    private int[]                     order;
+
+    ColumnarRecords(AbstractFormattable result, AbstractRow<R> fields, Supplier<R> factory) {
+        this.result = result;
+        this.factory = factory;
+        this.columns = new Column[fields.size()];
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = Column.of(fields.field(i).getType());
+    }
+
+    /**
+     * Append a fetched record's values to the columns.
+     */
+    final void append(R record) {
+        Object[] values = ((AbstractRecord) record).values;
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = columns[i].set(size, values[i]);
+
+        if (order != null) {
+            order = Arrays.copyOf(order, size + 1);
+            order[size] = size;
+        }
+
+        size++;
+    }
+
+    @Override
+    public final R get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        return physical(order == null ? index : order[index]);
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final void sort(Comparator<? super R> c) {
+        Comparator<? super R> comparator = c != null ? c : (Comparator<? super R>) Comparator.<Record>naturalOrder();
+        List<R> records = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+            records.add(physical(i));
+
+        sort0((i, j) -> comparator.compare(records.get(i), records.get(j)));
+    }
+
+    /**
+     * Sort the records by a single field, reading the sort keys directly from
+     * its column.
+     */
+    @SuppressWarnings("unchecked")
+    final void sort(int fieldIndex, Comparator<?> c) {
+        Comparator<Object> comparator = (Comparator<Object>) c;
+        Column column = columns[fieldIndex];
+
+        sort0((i, j) -> comparator.compare(column.get(i), column.get(j)));
+    }
+
+    /**
+     * Intern the <code>String</code> values of a column.
+     */
+    final void intern(int fieldIndex) {
+        columns[fieldIndex].intern();
+    }
+
+    /**
+     * Serialise the records as a plain {@link ArrayList}, as the columns and
+     * the record factory aren't serializable. Deserialised records are stored
+     * in memory, like those of any other result.
+     */
+    private final Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+
+    private final void sort0(Comparator<Integer> comparator) {
+        Integer[] indexes = new Integer[size];
+
+        for (int i = 0; i < size; i++)
+            indexes[i] = order == null ? i : order[i];
+
+        // Arrays.sort(Object[]) is stable, just like List.sort()
+        Arrays.sort(indexes, comparator);
+
+        int[] o = new int[size];
+        for (int i = 0; i < size; i++)
+            o[i] = indexes[i];
+
+        order = o;
+    }
+
+    private final R physical(int physical) {
+        R record = factory.get();
+        AbstractRecord r = (AbstractRecord) record;
+
+        for (int i = 0; i < columns.length; i++)
+            r.values[i] = r.originals[i] = columns[i].get(physical);
+
+        r.fetched = true;
+
+        Configuration c = result.configuration();
+        if (attachRecords(c))
+            record.attach(c);
+
+        return record;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Columns
+    // -------------------------------------------------------------------------
+
+    /**
+     * A growable column of values.
+     */
+    private static abstract class Column {
+        BitSet nulls = new BitSet();
+
+        static Column of(Class<?> type) {
+            if (type == Integer.class)
+                return new IntColumn();
+            else if (type == Long.class)
+                return new LongColumn();
+            else if (type == Double.class)
+                return new DoubleColumn();
+            else if (type == Boolean.class)
+                return new BooleanColumn();
+            else if (type == String.class)
+                return new StringColumn();
+            else
+                return new ObjectColumn();
+        }
+
+        /**
+         * Set a value at the row index, returning the column containing the
+         * value, which may be a new one if the value can't be stored in this
+         * column.
+         */
+        final Column set(int row, Object value) {
+            if (value == null) {
+                nulls.set(row);
+                grow(row + 1);
+                return this;
+            }
+            else if (accepts(value)) {
+                grow(row + 1);
+                set0(row, value);
+                return this;
+            }
+            else
+                return toObjectColumn(row).set(row, value);
+        }
+
+        final Object get(int row) {
+            return nulls.get(row) ? null : get0(row);
+        }
+
+        final ObjectColumn toObjectColumn(int rows) {
+            ObjectColumn result = new ObjectColumn();
+            result.grow(rows);
+
+            for (int i = 0; i < rows; i++)
+                result.values[i] = get(i);
+
+            result.nulls = nulls;
+            return result;
+        }
+
+        static final int capacity(int length, int required) {
+            return Math.max(required, Math.max(16, length + (length >> 1)));
+        }
+
+        void intern() {}
+
+        abstract boolean accepts(Object value);
+        abstract void grow(int required);
+        abstract void set0(int row, Object value);
+        abstract Object get0(int row);
+    }
+
+    private static final class IntColumn extends Column {
+        int[] values = new int[0];
+
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof Integer;
+        }
+
+        @Override
+        void grow(int required) {
+            if (required > values.length)
+                values = Arrays.copyOf(values, capacity(values.length, required));
+        }
+
+        @Override
+        void set0(int row, Object value) {
+            values[row] = (Integer) value;
+        }
+
+        @Override
+        Object get0(int row) {
+            return values[row];
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        long[] values = new long[0];
+
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof Long;
+        }
+
+        @Override
+        void grow(int required) {
+            if (required > values.length)
+                values = Arrays.copyOf(values, capacity(values.length, required));
+        }
+
+        @Override
+        void set0(int row, Object value) {
+            values[row] = (Long) value;
+        }
+
+        @Override
+        Object get0(int row) {
+            return values[row];
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[] values = new double[0];
+
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof Double;
+        }
+
+        @Override
+        void grow(int required) {
+            if (required > values.length)
+                values = Arrays.copyOf(values, capacity(values.length, required));
+        }
+
+        @Override
+        void set0(int row, Object value) {
+            values[row] = (Double) value;
+        }
+
+        @Override
+        Object get0(int row) {
+            return values[row];
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        final BitSet values = new BitSet();
+
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof Boolean;
+        }
+
+        @Override
+        void grow(int required) {}
+
+        @Override
+        void set0(int row, Object value) {
+            values.set(row, (Boolean) value);
+        }
+
+        @Override
+        Object get0(int row) {
+            return values.get(row);
+        }
+    }
+
+    private static final class StringColumn extends Column {
+        int[]                      codes      = new int[0];
+        final List<String>         dictionary = new ArrayList<>();
+        final Map<String, Integer> lookup     = new HashMap<>();
+
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof String
+                && (dictionary.size() < MAX_DICTIONARY_SIZE || lookup.containsKey(value));
+        }
+
+        @Override
+        void grow(int required) {
+            if (required > codes.length)
+                codes = Arrays.copyOf(codes, capacity(codes.length, required));
+        }
+
+        @Override
+        void set0(int row, Object value) {
+            codes[row] = lookup.computeIfAbsent((String) value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+
+        @Override
+        Object get0(int row) {
+            return dictionary.get(codes[row]);
+        }
+
+        @Override
+        void intern() {
+            lookup.clear();
+
+            for (int i = 0; i < dictionary.size(); i++) {
+                String s = dictionary.get(i).intern();
+                dictionary.set(i, s);
+                lookup.put(s, i);
+            }
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values = new Object[0];
+
+        @Override
+        boolean accepts(Object value) {
+            return true;
+        }
+
+        @Override
+        void grow(int required) {
+            if (required > values.length)
+                values = Arrays.copyOf(values, capacity(values.length, required));
+        }
+
+        @Override
+        void set0(int row, Object value) {
+            values[row] = value;
+        }
+
+        @Override
+        void intern() {
+            for (int i = 0; i < values.length; i++)
+                if (values[i] instanceof String)
+                    values[i] = ((String) values[i]).intern();
+        }
+
+        @Override
+        Object get0(int row) {
+            return values[row];
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread safe, bounded, approximate LRU cache.
+ * <p>
+ * Reads and writes are delegated to a {@link ConcurrentHashMap} without
+ * acquiring any locks. Each entry remembers the logical time of its last
+ * access, where the logical clock advances with each write. When the cache
+ * grows beyond its size, a single thread trims it by evicting the least
+ * recently used entries in batches, while other threads continue to read and
+ * write.
+ *
+ * @author Lukas Eder
+ */
+final class ConcurrentLRUCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private final int                            size;
+    private final int                            trimmedSize;
+    private final Runnable                       onEviction;
+    private final ConcurrentHashMap<K, Node<V>>  map;
+    private final AtomicLong                     clock;
+    private final ReentrantLock                  trimLock;
+    private transient Set<Map.Entry<K, V>>       entrySet;
+
+    ConcurrentLRUCache(int size) {
+        this(size, null);
+    }
+
+    ConcurrentLRUCache(int size, Runnable onEviction) {
+        this.size = Math.max(1, size);
+        this.trimmedSize = this.size - this.size / 10;
+        this.onEviction = onEviction;
+        this.map = new ConcurrentHashMap<>();
+        this.clock = new AtomicLong();
+        this.trimLock = new ReentrantLock();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Map API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final V get(Object key) {
+        Node<V> node = map.get(key);
+
+        if (node == null)
+            return null;
+
+        node.touch(clock.get());
+        return node.value;
+    }
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public final int size() {
+        return map.size();
+    }
+
+    @Override
+    public final V put(K key, V value) {
+        return value(afterWrite(map.put(key, node(value))));
+    }
+
+    @Override
+    public final V putIfAbsent(K key, V value) {
+        Node<V> previous = map.putIfAbsent(key, node(value));
+
+        if (previous == null)
+            return value(afterWrite(null));
+
+        previous.touch(clock.get());
+        return previous.value;
+    }
+
+    @Override
+    public final V remove(Object key) {
+        return value(map.remove(key));
+    }
+
+    @Override
+    public final boolean remove(Object key, Object value) {
+        Node<V> node = map.get(key);
+        return node != null && Objects.equals(node.value, value) && map.remove(key, node);
+    }
+
+    @Override
+    public final V replace(K key, V value) {
+        return value(map.replace(key, node(value)));
+    }
+
+    @Override
+    public final boolean replace(K key, V oldValue, V newValue) {
+        Node<V> node = map.get(key);
+        return node != null && Objects.equals(node.value, oldValue) && map.replace(key, node, node(newValue));
+    }
+
+    @Override
+    public final void clear() {
+        map.clear();
+    }
+
+    @Override
+    public final Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null)
+            entrySet = new EntrySet();
+
+        return entrySet;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Eviction
+    // -------------------------------------------------------------------------
+
+    private final Node<V> node(V value) {
+        return new Node<>(Objects.requireNonNull(value), clock.incrementAndGet());
+    }
+
+    private static final <V> V value(Node<V> node) {
+        return node == null ? null : node.value;
+    }
+
+    private final Node<V> afterWrite(Node<V> previous) {
+
+        // Only one thread trims the cache at a time. Others may temporarily
+        // exceed the size, rather than waiting.
+        if (previous == null && map.size() > size && trimLock.tryLock()) {
+            try {
+                trim();
+            }
+            finally {
+                trimLock.unlock();
+            }
+        }
+
+        return previous;
+    }
+
+    private final void trim() {
+        int excess = map.size() - trimmedSize;
+        if (excess <= 0)
+            return;
+
+        // Access times keep changing concurrently, so they're snapshot first
+        List<Map.Entry<K, Node<V>>> entries = new ArrayList<>(map.entrySet());
+        int n = entries.size();
+        long[] times = new long[n];
+        for (int i = 0; i < n; i++)
+            times[i] = entries.get(i).getValue().time;
+
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        long threshold = sorted[Math.min(excess, n) - 1];
+
+        // Evict all entries older than the threshold first, and then the
+        // ones at the threshold until the excess is removed
+        for (int pass = 0; pass < 2 && excess > 0; pass++) {
+            for (int i = 0; i < n && excess > 0; i++) {
+                if (pass == 0 ? times[i] < threshold : times[i] == threshold) {
+                    Map.Entry<K, Node<V>> e = entries.get(i);
+
+                    // Entries that have been replaced in the meantime are not evicted
+                    if (map.remove(e.getKey(), e.getValue())) {
+                        excess--;
+
+                        if (onEviction != null)
+                            onEviction.run();
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Node<V> {
+        final V       value;
+        volatile long time;
+
+        Node(V value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+
+        final void touch(long t) {
+
+            // Avoid contended writes on frequently read entries
+            if (time != t)
+                time = t;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public final Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<Map.Entry<K, Node<V>>> it = map.entrySet().iterator();
+
+            return new Iterator<Map.Entry<K, V>>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    Map.Entry<K, Node<V>> e = it.next();
+                    return new SimpleImmutableEntry<>(e.getKey(), e.getValue().value);
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        @Override
+        public final int size() {
+            return map.size();
+        }
+
+        @Override
+        public final void clear() {
+            map.clear();
+        }
+    }
+}
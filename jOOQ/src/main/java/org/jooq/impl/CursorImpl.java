@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Collections.emptyList;
 // ...
 import static org.jooq.impl.RowAsField.NO_NATIVE_SUPPORT;
@@ -44,6 +45,7 @@ import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.embeddedRecordType;
 import static org.jooq.impl.Tools.recordFactory;
 import static org.jooq.impl.Tools.uncoerce;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -75,6 +77,7 @@ import java.util.function.Supplier;
 
 import org.jooq.Attachable;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -97,6 +100,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
     final ExecuteContext                                   ctx;
     final ExecuteListener                                  listener;
     private final boolean[]                                intern;
+    private final boolean                                  sharedOriginals;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
     private final boolean                                  autoclosing;
@@ -136,6 +140,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         this.maxRows = maxRows;
         this.autoclosing = autoclosing;
+        this.sharedOriginals = TRUE.equals(ctx.settings().isFetchSharedOriginals());
 
         if (internIndexes != null) {
             this.intern = new boolean[fields.length];
@@ -223,12 +228,19 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         return iterator;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public final Result<R> fetchNext(int number) {
         // [#1157] This invokes listener.fetchStart(ctx), which has to be called
         // Before listener.resultStart(ctx)
         iterator();
-        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields);
+        Configuration configuration = ((DefaultExecuteContext) ctx).originalConfiguration();
+        int budget = defaultIfNull(ctx.settings().getFetchResultMemoryBudget(), 0);
+        ResultImpl<R> result = TRUE.equals(ctx.settings().isFetchColumnarResults())
+            ? new ResultImpl<>(configuration, fields, (Supplier<R>) factory)
+            : budget > 0
+            ? new ResultImpl<>(configuration, fields, (Supplier<R>) factory, budget * 1024L)
+            : new ResultImpl<>(configuration, fields);
 
         ctx.result(result);
         listener.resultStart(ctx);
@@ -1405,7 +1417,8 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         private Boolean                              hasNext;
 
         /**
-         * [#11099] Cache this instance for the entire cursor.
+         * [#11099] Cache this instance and its row reader plan for the entire
+         * cursor.
          */
         private final CursorRecordInitialiser        initialiser    = new CursorRecordInitialiser(fields, 0);
 
@@ -1444,7 +1457,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
             try {
                 if (!isClosed && rs.next()) {
-                    record = recordDelegate.operate(initialiser.reset());
+                    record = recordDelegate.operate(initialiser);
                     rows++;
                 }
             }
@@ -1481,24 +1494,80 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         private class CursorRecordInitialiser implements ThrowingFunction<AbstractRecord, AbstractRecord, SQLException> {
 
-            private final AbstractRow<?> initialiserFields;
-            private int                  offset;
+            private final AbstractRow<?>                    initialiserFields;
+
+            /**
+             * The row reader plan, compiled once per cursor: The
+             * (possibly coerced) fields to read, their zero based JDBC
+             * offsets, and the nested record initialisers and factories, if
+             * any.
+             */
+            private final Field<?>[]                        planFields;
+            private final int[]                             planOffsets;
+            private final CursorRecordInitialiser[]         planNested;
+            private final Supplier<AbstractRecord>[]        planNestedFactories;
+            private final boolean[]                         planConverted;
+
+            /**
+             * The total number of JDBC columns consumed by this initialiser,
+             * including nested records.
+             */
+            private final int                               width;
 
+            @SuppressWarnings("unchecked")
             CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset) {
+                int size = initialiserFields.size();
+
                 this.initialiserFields = initialiserFields;
-                this.offset = offset;
-            }
+                this.planFields = new Field[size];
+                this.planOffsets = new int[size];
+                this.planNested = new CursorImpl.CursorIterator.CursorRecordInitialiser[size];
+                this.planNestedFactories = new Supplier[size];
+                this.planConverted = new boolean[size];
+
+                int position = offset;
+                for (int i = 0; i < size; i++) {
+                    Field<?> field = initialiserFields.field(i);
+                    AbstractRow<?> nested = null;
+                    Class<? extends AbstractRecord> recordType = null;
+
+                    // [#7100] TODO: This should be transparent to the CursorImpl
+                    //         RowField may have a Row[N].mapping(...) applied
+                    Field<?> f = uncoerce(field);
+
+                    if (f instanceof AbstractRowAsField && NO_NATIVE_SUPPORT.contains(ctx.dialect())) {
+                        nested = ((AbstractRowAsField<?>) f).emulatedFields(configuration);
+                        recordType = (Class<? extends AbstractRecord>) ((AbstractRowAsField<?>) f).getRecordType();
+                    }
+                    else if (f.getDataType().isEmbeddable()) {
+                        nested = Tools.row0(embeddedFields(f));
+                        recordType = embeddedRecordType(f);
+                    }
+
+                    planFields[i] = field;
+                    planOffsets[i] = position;
+                    planConverted[i] = f != field;
 
-            CursorRecordInitialiser reset() {
-                offset = 0;
-                return this;
+                    if (nested != null) {
+                        planNested[i] = new CursorRecordInitialiser(nested, position);
+                        planNestedFactories[i] = recordFactory(recordType, (AbstractRow<AbstractRecord>) nested);
+                        position += planNested[i].width;
+                    }
+                    else
+                        position++;
+                }
+
+                this.width = position - offset;
             }
 
             @Override
             public AbstractRecord apply(AbstractRecord record) throws SQLException {
                 ctx.record(record);
                 listener.recordStart(ctx);
-                int size = initialiserFields.size();
+                int size = planFields.length;
+
+                if (sharedOriginals)
+                    record.shareOriginals();
 
 
 
@@ -1520,7 +1589,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
 
                 for (int i = 0; i < size; i++)
-                    setValue(record, initialiserFields.field(i), i);
+                    setValue(record, planFields[i], i);
 
                 if (intern != null)
                     for (int i = 0; i < intern.length; i++)
@@ -1540,48 +1609,32 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
                 try {
                     T value;
-                    AbstractRow<?> nested = null;
-                    Class<? extends AbstractRecord> recordType = null;
+                    CursorRecordInitialiser nested = planNested[index];
 
-                    // [#7100] TODO: This should be transparent to the CursorImpl
-                    //         RowField may have a Row[N].mapping(...) applied
-                    Field<?> f = uncoerce(field);
-
-                    if (f instanceof AbstractRowAsField && NO_NATIVE_SUPPORT.contains(ctx.dialect())) {
-                        nested = ((AbstractRowAsField<?>) f).emulatedFields(configuration);
-                        recordType = (Class<? extends AbstractRecord>) ((AbstractRowAsField<?>) f).getRecordType();
-                    }
-                    else if (f.getDataType().isEmbeddable()) {
-                        nested = Tools.row0(embeddedFields(f));
-                        recordType = embeddedRecordType(f);
-                    }
-
-                    int nestedOffset = offset + index;
                     if (nested != null) {
-                        CursorRecordInitialiser operation = new CursorRecordInitialiser(nested, nestedOffset);
-                        value = (T) Tools.newRecord(true, (Class<AbstractRecord>) recordType, (AbstractRow<AbstractRecord>) nested, ((DefaultExecuteContext) ctx).originalConfiguration())
-                                         .operate(operation);
+                        value = (T) Tools.newRecord(true, planNestedFactories[index], ((DefaultExecuteContext) ctx).originalConfiguration())
+                                         .operate(nested);
 
                         // [#7100] TODO: Is there a more elegant way to do this?
-                        if (f != field)
+                        if (planConverted[index])
                             value = ((Converter<Object, T>) field.getConverter()).from(value);
-
-                        offset += operation.offset - nestedOffset + nested.size() - 1;
                     }
                     else {
-                        rsContext.index(nestedOffset + 1);
+                        rsContext.index(planOffsets[index] + 1);
                         rsContext.field((Field) field);
                         field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
                         value = (T) rsContext.value();
                     }
 
                     record.values[index] = value;
-                    record.originals[index] = value;
+
+                    if (!sharedOriginals)
+                        record.originals[index] = value;
                 }
 
                 // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
                 catch (Exception e) {
-                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + (offset + index + 1), e);
+                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + (planOffsets[index] + 1), e);
                 }
             }
         }
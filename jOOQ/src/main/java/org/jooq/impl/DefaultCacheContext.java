@@ -37,6 +37,9 @@
  */
 package org.jooq.impl;
 
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.jooq.CacheContext;
 import org.jooq.impl.CacheType;
 import org.jooq.Configuration;
@@ -47,15 +50,55 @@ import org.jooq.Configuration;
 final class DefaultCacheContext extends AbstractScope implements CacheContext {
 
     private final CacheType cacheType;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * The cache provided for this context, or <code>null</code> if caching is
+     * turned off for the {@link #cacheType}.
+     */
+    Map<Object, Object>     cache;
 
     DefaultCacheContext(Configuration configuration, CacheType cacheType) {
         super(configuration);
 
         this.cacheType = cacheType;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    final void recordHit() {
+        hits.increment();
+    }
+
+    final void recordMiss() {
+        misses.increment();
     }
 
     @Override
     public final CacheType cacheType() {
         return cacheType;
     }
+
+    @Override
+    public final long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public final long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public final long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public final void recordEviction() {
+        evictions.increment();
+    }
 }
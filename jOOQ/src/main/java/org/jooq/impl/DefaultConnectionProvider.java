@@ -63,6 +63,7 @@ public class DefaultConnectionProvider implements ConnectionProvider {
 
     private static final JooqLogger log = JooqLogger.getLogger(DefaultConnectionProvider.class);
     Connection                      connection;
+    StatementCache                  statementCache;
 
     public DefaultConnectionProvider(Connection connection) {
         this.connection = connection;
@@ -86,9 +87,38 @@ public class DefaultConnectionProvider implements ConnectionProvider {
     // -------------------------------------------------------------------------
 
     public final void setConnection(Connection connection) {
+        closeStatementCache();
         this.connection = connection;
     }
 
+    /**
+     * The {@link StatementCache} of the current connection, lazily created.
+     */
+    final synchronized StatementCache statementCache(int size) {
+        if (statementCache == null)
+            statementCache = new StatementCache(size);
+
+        return statementCache;
+    }
+
+    /**
+     * Close the {@link StatementCache} of the current connection, if any.
+     * <p>
+     * The statements are closed outside of the monitor, to avoid pinning
+     * virtual threads during JDBC calls.
+     */
+    final void closeStatementCache() {
+        StatementCache cache;
+
+        synchronized (this) {
+            cache = statementCache;
+            statementCache = null;
+        }
+
+        if (cache != null)
+            cache.close();
+    }
+
     /**
      * Convenience method to access {@link Connection#commit()}.
      */
@@ -37,10 +37,12 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.Tools.EMPTY_INT;
 import static org.jooq.impl.Tools.EMPTY_QUERY;
 import static org.jooq.impl.Tools.EMPTY_STRING;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.Array;
 import java.sql.Blob;
@@ -570,7 +572,22 @@ class DefaultExecuteContext implements ExecuteContext {
     }
 
     private final SettingsEnabledConnection wrapConnection(ConnectionProvider provider, Connection c) {
-        return new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c), derivedConfiguration.settings(), this);
+        return new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c, statementCache(provider, c)), derivedConfiguration.settings(), this);
+    }
+
+    /**
+     * Prepared statements can be cached only on connections that outlive a
+     * single execution, i.e. the ones of a {@link DefaultConnectionProvider}.
+     */
+    private final StatementCache statementCache(ConnectionProvider provider, Connection c) {
+        Settings settings = derivedConfiguration.settings();
+
+        if (TRUE.equals(settings.isCachePreparedStatements())
+                && provider instanceof DefaultConnectionProvider
+                && ((DefaultConnectionProvider) provider).connection == c)
+            return ((DefaultConnectionProvider) provider).statementCache(defaultIfNull(settings.getCachePreparedStatementsLRUCacheSize(), 256));
+        else
+            return null;
     }
 
     final void incrementStatementExecutionCount() {
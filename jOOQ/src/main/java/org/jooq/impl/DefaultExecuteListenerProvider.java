@@ -41,6 +41,7 @@ import static org.jooq.impl.Tools.map;
 
 import java.io.Serializable;
 
+import org.jooq.ExecuteEventType;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
 
@@ -59,6 +60,11 @@ public class DefaultExecuteListenerProvider implements ExecuteListenerProvider,
      */
     private final ExecuteListener listener;
 
+    /**
+     * The events handled by the delegate listener.
+     */
+    private final int             mask;
+
     /**
      * Convenience method to construct an array of
      * <code>DefaultExecuteListenerProvider</code> from an array of
@@ -75,6 +81,7 @@ public class DefaultExecuteListenerProvider implements ExecuteListenerProvider,
      */
     public DefaultExecuteListenerProvider(ExecuteListener listener) {
         this.listener = listener;
+        this.mask = ExecuteListeners.mask(listener);
     }
 
     @Override
@@ -82,6 +89,11 @@ public class DefaultExecuteListenerProvider implements ExecuteListenerProvider,
         return listener;
     }
 
+    @Override
+    public boolean handles(ExecuteEventType type) {
+        return ExecuteListeners.handles(mask, type);
+    }
+
     @Override
     public String toString() {
         return listener.toString();
@@ -59,7 +59,10 @@ import static org.jooq.impl.Tools.row0;
 import static org.jooq.tools.reflect.Reflect.accessible;
 
 import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -755,10 +758,148 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
-    private static final /* record */ class ConstructorCall<E> implements Callable<E> { private final Constructor<? extends E> constructor; public ConstructorCall(Constructor<? extends E> constructor) { this.constructor = constructor; } public Constructor<? extends E> constructor() { return constructor; } @Override public boolean equals(Object o) { if (!(o instanceof ConstructorCall)) return false; ConstructorCall other = (ConstructorCall) o; if (!java.util.Objects.equals(this.constructor, other.constructor)) return false; return true; } @Override public int hashCode() { return java.util.Objects.hash(this.constructor); } @Override public String toString() { return new StringBuilder("ConstructorCall[").append("constructor=").append(this.constructor).append("]").toString(); }
+    private static final class ConstructorCall<E> implements Callable<E> {
+        private final Constructor<? extends E> constructor;
+        private final MethodHandle             handle;
+
+        ConstructorCall(Constructor<? extends E> constructor) {
+            this.constructor = constructor;
+            this.handle = handle(() -> LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class)));
+        }
+
+        @SuppressWarnings("unchecked")
         @Override
         public E call() throws Exception {
-            return constructor.newInstance();
+            if (handle == null)
+                return constructor.newInstance();
+
+            try {
+                return (E) handle.invokeExact();
+            }
+            catch (Exception | Error e) {
+                throw e;
+            }
+            catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ConstructorCall))
+                return false;
+
+            ConstructorCall<?> other = (ConstructorCall<?>) o;
+            if (!java.util.Objects.equals(this.constructor, other.constructor))
+                return false;
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(this.constructor);
+        }
+
+        @Override
+        public String toString() {
+            return "ConstructorCall[constructor=" + constructor + "]";
+        }
+    }
+
+    /**
+     * A write access to a POJO member or setter, compiled once per mapper.
+     * <p>
+     * Writes go through a {@link MethodHandle} rather than through
+     * {@link java.lang.reflect.Field#set(Object, Object)} or
+     * {@link Method#invoke(Object, Object...)}, avoiding the per call access
+     * checks and argument array allocations of reflection. If no handle can
+     * be obtained, reflection is used as before.
+     */
+    private static final class Setter {
+        final Class<?>                type;
+        final Type                    genericType;
+        final java.lang.reflect.Field member;
+        final Method                  method;
+        final MethodHandle            handle;
+
+        Setter(java.lang.reflect.Field member) {
+            this.type = member.getType();
+            this.genericType = member.getGenericType();
+            this.member = member;
+            this.method = null;
+            this.handle = handle(() -> LOOKUP.unreflectSetter(member).asType(SETTER));
+        }
+
+        Setter(Method method) {
+            this.type = method.getParameterTypes()[0];
+            this.genericType = method.getGenericParameterTypes()[0];
+            this.member = null;
+            this.method = method;
+            this.handle = handle(() -> LOOKUP.unreflect(method).asType(SETTER));
+        }
+
+        final void set(Object result, Object value) throws Exception {
+            if (handle == null) {
+                if (member != null)
+                    member.set(result, value);
+                else
+                    method.invoke(result, value);
+
+                return;
+            }
+
+            try {
+                handle.invokeExact(result, value);
+            }
+            catch (Exception | Error e) {
+                throw e;
+            }
+            catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        static final Setter[] setters(List<java.lang.reflect.Field> members, List<Method> methods) {
+            List<Setter> result = new ArrayList<>(members.size() + methods.size());
+
+            for (java.lang.reflect.Field member : members)
+
+                // [#935] Avoid setting final fields
+                if ((member.getModifiers() & Modifier.FINAL) == 0)
+                    result.add(new Setter(member));
+
+            for (Method method : methods)
+                result.add(new Setter(method));
+
+            return result.toArray(EMPTY_SETTER);
+        }
+
+        @Override
+        public String toString() {
+            return "Setter[" + (member != null ? member : method) + "]";
+        }
+    }
+
+    private static final Lookup     LOOKUP       = MethodHandles.lookup();
+    private static final MethodType SETTER       = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final Setter[]   EMPTY_SETTER = {};
+
+    @FunctionalInterface
+    private interface HandleSupplier {
+        MethodHandle get() throws Exception;
+    }
+
+    /**
+     * Look up a {@link MethodHandle}, or return <code>null</code> if the
+     * handle is not available, e.g. because of module access restrictions.
+     */
+    private static final MethodHandle handle(HandleSupplier supplier) {
+        try {
+            return supplier.get();
+        }
+        catch (Exception e) {
+            return null;
         }
     }
 
@@ -774,7 +915,9 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private final boolean                          useAnnotations;
         private final List<java.lang.reflect.Field>[]  members;
         private final List<java.lang.reflect.Method>[] methods;
+        private final Setter[][]                       setters;
         private final Map<String, NestedMappingInfo>   nestedMappingInfos;
+        private final Map<String, Setter[]>            nestedSetters;
         private final E                                instance;
 
         MutablePOJOMapper(Callable<E> constructor, E instance) {
@@ -782,8 +925,10 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             this.useAnnotations = hasColumnAnnotations(configuration, type);
             this.members = new List[fields.length];
             this.methods = new List[fields.length];
+            this.setters = new Setter[fields.length][];
             this.instance = instance;
             this.nestedMappingInfos = new HashMap<>();
+            this.nestedSetters = new HashMap<>();
 
             Map<String, List<Field<?>>> nestedMappedFields = null;
 
@@ -827,6 +972,8 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                         methods[i] = getMatchingSetters(configuration, type, name, true);
                     }
                 }
+
+                setters[i] = Setter.setters(members[i], methods[i]);
             }
 
             if (nestedMappedFields != null) {
@@ -835,15 +982,20 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                     nestedMappingInfo.row = Tools.row0(list);
                     nestedMappingInfo.recordDelegate = newRecord(true, recordType(nestedMappingInfo.row.size()), nestedMappingInfo.row, configuration);
 
-                    for (java.lang.reflect.Field member : getMatchingMembers(configuration, type, prefix, true))
+                    List<java.lang.reflect.Field> nestedMembers = getMatchingMembers(configuration, type, prefix, true);
+                    List<Method> nestedMethods = getMatchingSetters(configuration, type, prefix, true);
+
+                    for (java.lang.reflect.Field member : nestedMembers)
                         nestedMappingInfo.mappers.add(
                             nestedMappingInfo.row.fields.mapper(configuration, member.getType())
                         );
 
-                    for (Method method : getMatchingSetters(configuration, type, prefix, true))
+                    for (Method method : nestedMethods)
                         nestedMappingInfo.mappers.add(
                             nestedMappingInfo.row.fields.mapper(configuration, method.getParameterTypes()[0])
                         );
+
+                    nestedSetters.put(prefix, Setter.setters(nestedMembers, nestedMethods));
                 });
             }
         }
@@ -867,27 +1019,17 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 final E result = instance != null ? instance : constructor.call();
 
                 for (int i = 0; i < fields.length; i++) {
-                    for (java.lang.reflect.Field member : members[i])
-
-                        // [#935] Avoid setting final fields
-                        if ((member.getModifiers() & Modifier.FINAL) == 0)
-                            map(record, result, member, i);
-
-                    for (java.lang.reflect.Method method : methods[i]) {
-                        Class<?> mType = method.getParameterTypes()[0];
-                        Object value = record.get(i, mType);
-
-                        // [#3082] [#10910] Try mapping nested collection types
-                        Object list = tryConvertToList(value, mType, method.getGenericParameterTypes()[0]);
-                        if (list != null)
-                            method.invoke(result, list);
-                        else
-                            method.invoke(result, record.get(i, mType));
+                    for (Setter setter : setters[i]) {
+                        Object value = record.get(i, setter.type);
+
+                        // [#3082] [#10910] [#11213] Try mapping nested collection types
+                        Object list = tryConvertToList(value, setter.type, setter.genericType);
+                        setter.set(result, list != null ? list : value);
                     }
                 }
 
                 for (final Entry<String, NestedMappingInfo> entry : nestedMappingInfos.entrySet()) {
-                    final String prefix = entry.getKey();
+                    final Setter[] s = nestedSetters.get(entry.getKey());
 
                     for (final RecordMapper<AbstractRecord, Object> mapper : entry.getValue().mappers) {
                         entry.getValue().recordDelegate.operate(rec -> {
@@ -896,15 +1038,8 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                                 rec.set(index, record.get(indexes.get(index)));
 
                             Object value = mapper.map(rec);
-                            for (java.lang.reflect.Field member : getMatchingMembers(configuration, type, prefix, true)) {
-
-                                // [#935] Avoid setting final fields
-                                if ((member.getModifiers() & Modifier.FINAL) == 0)
-                                    map(value, result, member);
-                            }
-
-                            for (Method method : getMatchingSetters(configuration, type, prefix, true))
-                                method.invoke(result, value);
+                            for (Setter setter : s)
+                                setter.set(result, value);
 
                             return rec;
                         });
@@ -918,40 +1053,6 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             }
         }
 
-        private final void map(Record record, Object result, java.lang.reflect.Field member, int index) throws IllegalAccessException {
-            Class<?> mType = member.getType();
-
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    map(record.get(index, byte.class), result, member);
-                else if (mType == short.class)
-                    map(record.get(index, short.class), result, member);
-                else if (mType == int.class)
-                    map(record.get(index, int.class), result, member);
-                else if (mType == long.class)
-                    map(record.get(index, long.class), result, member);
-                else if (mType == float.class)
-                    map(record.get(index, float.class), result, member);
-                else if (mType == double.class)
-                    map(record.get(index, double.class), result, member);
-                else if (mType == boolean.class)
-                    map(record.get(index, boolean.class), result, member);
-                else if (mType == char.class)
-                    map(record.get(index, char.class), result, member);
-            }
-
-            else {
-                Object value = record.get(index, mType);
-
-                // [#3082] [#10910] [#11213] Try mapping nested collection types
-                Object list = tryConvertToList(value, mType, member.getGenericType());
-                if (list != null)
-                    member.set(result, list);
-                else
-                    map(value, result, member);
-            }
-        }
-
         private final List<?> tryConvertToList(Object value, Class<?> mType, Type genericType) {
             if (value instanceof Collection && (mType == List.class || mType == ArrayList.class) && genericType instanceof ParameterizedType) {
                 Class<?> componentType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
@@ -960,32 +1061,6 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             else
                 return null;
         }
-
-        private final void map(Object value, Object result, java.lang.reflect.Field member) throws IllegalAccessException {
-            Class<?> mType = member.getType();
-
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    member.setByte(result, (Byte) value);
-                else if (mType == short.class)
-                    member.setShort(result, (Short) value);
-                else if (mType == int.class)
-                    member.setInt(result, (Integer) value);
-                else if (mType == long.class)
-                    member.setLong(result, (Long) value);
-                else if (mType == float.class)
-                    member.setFloat(result, (Float) value);
-                else if (mType == double.class)
-                    member.setDouble(result, (Double) value);
-                else if (mType == boolean.class)
-                    member.setBoolean(result, (Boolean) value);
-                else if (mType == char.class)
-                    member.setChar(result, (Character) value);
-            }
-            else {
-                member.set(result, value);
-            }
-        }
     }
 
     /**
@@ -995,6 +1070,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
     private class ImmutablePOJOMapper extends AbstractDelegateMapper<R, E> {
 
         final Constructor<E>                          constructor;
+        private final MethodHandle                    handle;
         final Class<?>[]                              parameterTypes;
         private final boolean                         nested;
         private final NestedMappingInfo[]             nestedMappingInfo;
@@ -1010,6 +1086,11 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             int size = prefixes().size();
 
             this.constructor = accessible(constructor);
+            this.handle = handle(() -> LOOKUP
+                .unreflectConstructor(this.constructor)
+                .asFixedArity()
+                .asSpreader(Object[].class, this.constructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class)));
             this.parameterTypes = parameterTypes;
             this.nestedMappingInfo = new NestedMappingInfo[size];
             this.propertyIndexes = new Integer[fields.length];
@@ -1122,11 +1203,22 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         @Override
         public final E map(R record) {
             try {
-                return constructor.newInstance(nested ? mapNested(record) : mapNonnested(record));
+                Object[] args = nested ? mapNested(record) : mapNonnested(record);
+
+                if (handle == null)
+                    return constructor.newInstance(args);
+                else
+                    return (E) handle.invokeExact(args);
             }
             catch (Exception e) {
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
             }
+            catch (Error e) {
+                throw e;
+            }
+            catch (Throwable t) {
+                throw new MappingException("An error ocurred when mapping record to " + type, t);
+            }
         }
 
         private final Object[] mapNonnested(R record) {
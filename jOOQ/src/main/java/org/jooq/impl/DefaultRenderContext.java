@@ -1064,6 +1064,12 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         QueryPartList<Param<?>> bindValues;
         int                     skipUpdateCounts;
 
+        /**
+         * Whether the rendered query contains other (possibly mutable)
+         * queries, e.g. subqueries or set operation operands.
+         */
+        boolean                 nestedQueries;
+
         Rendered(String sql, QueryPartList<Param<?>> bindValues, int skipUpdateCounts) {
             this.sql = sql;
             this.bindValues = bindValues;
@@ -159,71 +159,89 @@ final class DeleteQueryImpl<R extends Record> extends AbstractDMLQuery<R> implem
 
     @Override
     public final void addUsing(Collection<? extends TableLike<?>> f) {
+        invalidateRendered();
         for (TableLike<?> provider : f)
             using.add(provider.asTable());
     }
 
     @Override
     public final void addUsing(TableLike<?> f) {
+        invalidateRendered();
         using.add(f.asTable());
     }
 
     @Override
     public final void addUsing(TableLike<?>... f) {
+        invalidateRendered();
         for (TableLike<?> provider : f)
             using.add(provider.asTable());
     }
 
     @Override
     public final void addConditions(Collection<? extends Condition> conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Condition conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Condition... conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition... conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Collection<? extends Condition> conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addOrderBy(OrderField<?>... fields) {
+        invalidateRendered();
         addOrderBy(Arrays.asList(fields));
     }
 
     @Override
     public final void addOrderBy(Collection<? extends OrderField<?>> fields) {
+        invalidateRendered();
         orderBy.addAll(Tools.sortFields(fields));
     }
 
     @Override
     public final void addLimit(Number numberOfRows) {
+        invalidateRendered();
         addLimit(DSL.val(numberOfRows));
     }
 
     @Override
     public final void addLimit(Field<? extends Number> numberOfRows) {
+        invalidateRendered();
         limit = numberOfRows;
     }
 
+    @Override
+    final boolean cacheableRendered() {
+        return true;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     final void accept0(Context<?> ctx) {
@@ -39,12 +39,34 @@ package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
 import static org.jooq.conf.InvocationOrder.REVERSE;
+import static org.jooq.ExecuteEventType.BIND_END;
+import static org.jooq.ExecuteEventType.BIND_START;
+import static org.jooq.ExecuteEventType.END;
+import static org.jooq.ExecuteEventType.EXCEPTION;
+import static org.jooq.ExecuteEventType.EXECUTE_END;
+import static org.jooq.ExecuteEventType.EXECUTE_START;
+import static org.jooq.ExecuteEventType.FETCH_END;
+import static org.jooq.ExecuteEventType.FETCH_START;
+import static org.jooq.ExecuteEventType.OUT_END;
+import static org.jooq.ExecuteEventType.OUT_START;
+import static org.jooq.ExecuteEventType.PREPARE_END;
+import static org.jooq.ExecuteEventType.PREPARE_START;
+import static org.jooq.ExecuteEventType.RECORD_END;
+import static org.jooq.ExecuteEventType.RECORD_START;
+import static org.jooq.ExecuteEventType.RENDER_END;
+import static org.jooq.ExecuteEventType.RENDER_START;
+import static org.jooq.ExecuteEventType.RESULT_END;
+import static org.jooq.ExecuteEventType.RESULT_START;
+import static org.jooq.ExecuteEventType.START;
+import static org.jooq.ExecuteEventType.WARNING;
 import static org.jooq.impl.Tools.EMPTY_EXECUTE_LISTENER;
+import static org.jooq.tools.StringUtils.toCamelCaseLC;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import org.jooq.ExecuteContext;
+import org.jooq.ExecuteEventType;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
 import org.jooq.conf.Settings;
@@ -59,10 +81,23 @@ import org.jooq.tools.LoggerListener;
  * @author Lukas Eder
  */
 final class ExecuteListeners implements ExecuteListener {
-    private static final ExecuteListener EMPTY_LISTENER         = new DefaultExecuteListener();
-    private static final JooqLogger      LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
+    private static final ExecuteListener    EMPTY_LISTENER               = new DefaultExecuteListener();
+    private static final JooqLogger         LOGGER_LISTENER_LOGGER       = JooqLogger.getLogger(LoggerListener.class);
+    private static final ExecuteEventType[] EVENTS                       = ExecuteEventType.values();
+    private static final int                ALL                          = (1 << EVENTS.length) - 1;
 
-    private final ExecuteListener[][]    listeners;
+    /**
+     * The events that are dispatched in end invocation order.
+     */
+    private static final int                END_EVENTS                   = mask(RENDER_END, PREPARE_END, BIND_END, EXECUTE_END, OUT_END, RECORD_END, RESULT_END, FETCH_END, END);
+    private static final int                FETCH_SERVER_OUTPUT_LISTENER = mask(FetchServerOutputListener.class);
+    private static final int                LOGGER_LISTENER              = mask(LoggerListener.class);
+
+    /**
+     * The listeners handling each {@link ExecuteEventType}, indexed by
+     * ordinal, in the event's invocation order.
+     */
+    private final ExecuteListener[][]       listeners;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
@@ -99,13 +134,14 @@ final class ExecuteListeners implements ExecuteListener {
      */
     private static final ExecuteListener[][] listeners(ExecuteContext ctx) {
         List<ExecuteListener> list = null;
+        List<Integer> masks = null;
 
         // jOOQ-internal listeners are added first, so their results are available to user-defined listeners
         // -------------------------------------------------------------------------------------------------
 
         // [#6580] Fetching server output may require some pre / post actions around the actual statement
         if (SettingsTools.getFetchServerOutputSize(0, ctx.settings()) > 0)
-            (list = init(list)).add(new FetchServerOutputListener());
+            add(list = init(list), masks = init(masks), new FetchServerOutputListener(), FETCH_SERVER_OUTPUT_LISTENER);
 
         // [#6051] The previously used StopWatchListener is no longer included by default
         if (!FALSE.equals(ctx.settings().isExecuteLogging())) {
@@ -113,74 +149,174 @@ final class ExecuteListeners implements ExecuteListener {
             // [#6747] Avoid allocating the listener (and by consequence, the ExecuteListeners) if
             //         we do not DEBUG log anyway.
             if (LOGGER_LISTENER_LOGGER.isDebugEnabled())
-                (list = init(list)).add(new LoggerListener());
+                add(list = init(list), masks = init(masks), new LoggerListener(), LOGGER_LISTENER);
         }
 
         for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders())
 
             // Could be null after deserialisation
             if (provider != null)
-                (list = init(list)).add(provider.provide());
+                add(list = init(list), masks = init(masks), provider.provide(), mask(provider));
 
         if (list == null)
             return null;
 
         ExecuteListener[] def = list.toArray(EMPTY_EXECUTE_LISTENER);
         ExecuteListener[] rev = null;
+        int all = ALL;
+
+        for (int mask : masks)
+            all &= mask;
+
+        ExecuteListener[] start = ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE ? def : (                     rev = Tools.reverse(def.clone()));
+        ExecuteListener[] end   = ctx.settings().getExecuteListenerEndInvocationOrder()   != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())));
+        ExecuteListener[][] result = new ExecuteListener[EVENTS.length][];
 
-        return new ExecuteListener[][] {
-            ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE ? def : (                     rev = Tools.reverse(def.clone())),
-            ctx.settings().getExecuteListenerEndInvocationOrder()   != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
-        };
+        // Events that are handled by all listeners share the same arrays
+        for (ExecuteEventType event : EVENTS) {
+            ExecuteListener[] ordered = handles(END_EVENTS, event) ? end : start;
+
+            result[event.ordinal()] = handles(all, event)
+                ? ordered
+                : filter(def, masks, event, ordered != def);
+        }
+
+        return result;
     }
 
-    private static final List<ExecuteListener> init(List<ExecuteListener> result) {
+    private static final <E> List<E> init(List<E> result) {
         return result == null ? new ArrayList<>() : result;
     }
 
+    private static final void add(List<ExecuteListener> list, List<Integer> masks, ExecuteListener listener, int mask) {
+        list.add(listener);
+        masks.add(mask);
+    }
+
+    private static final ExecuteListener[] filter(ExecuteListener[] def, List<Integer> masks, ExecuteEventType event, boolean reverse) {
+        List<ExecuteListener> result = new ArrayList<>(def.length);
+
+        for (int i = 0; i < def.length; i++) {
+            int j = reverse ? def.length - 1 - i : i;
+
+            if (handles(masks.get(j), event))
+                result.add(def[j]);
+        }
+
+        return result.toArray(EMPTY_EXECUTE_LISTENER);
+    }
+
+    /**
+     * Whether a mask contains an event.
+     */
+    static final boolean handles(int mask, ExecuteEventType event) {
+        return (mask & (1 << event.ordinal())) != 0;
+    }
+
+    private static final int mask(ExecuteEventType... events) {
+        int result = 0;
+
+        for (ExecuteEventType event : events)
+            result |= 1 << event.ordinal();
+
+        return result;
+    }
+
+    /**
+     * The events handled by listeners from a provider.
+     */
+    private static final int mask(ExecuteListenerProvider provider) {
+        int result = 0;
+
+        for (ExecuteEventType event : EVENTS)
+            if (provider.handles(event))
+                result |= 1 << event.ordinal();
+
+        return result;
+    }
+
+    /**
+     * The events handled by a listener, i.e. the ones it doesn't inherit from
+     * {@link DefaultExecuteListener}.
+     */
+    static final int mask(ExecuteListener listener) {
+        if (listener == null)
+            return ALL;
+
+        if (listener instanceof CallbackExecuteListener) {
+            int result = 0;
+
+            for (ExecuteEventType event : EVENTS)
+                if (((CallbackExecuteListener) listener).handles(event))
+                    result |= 1 << event.ordinal();
+
+            return result;
+        }
+
+        return mask(listener.getClass());
+    }
+
+    private static final int mask(Class<?> type) {
+        int result = 0;
+
+        for (ExecuteEventType event : EVENTS) {
+            try {
+                if (type.getMethod(toCamelCaseLC(event.name()), ExecuteContext.class).getDeclaringClass() == DefaultExecuteListener.class)
+                    continue;
+            }
+
+            // Be on the safe side and dispatch the event
+            catch (Exception ignore) {}
+
+            result |= 1 << event.ordinal();
+        }
+
+        return result;
+    }
+
     private ExecuteListeners(ExecuteListener[][] listeners) {
         this.listeners = listeners;
     }
 
     @Override
     public final void start(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[START.ordinal()])
             listener.start(ctx);
     }
 
     @Override
     public final void renderStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[RENDER_START.ordinal()])
             listener.renderStart(ctx);
     }
 
     @Override
     public final void renderEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[RENDER_END.ordinal()])
             listener.renderEnd(ctx);
     }
 
     @Override
     public final void prepareStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[PREPARE_START.ordinal()])
             listener.prepareStart(ctx);
     }
 
     @Override
     public final void prepareEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[PREPARE_END.ordinal()])
             listener.prepareEnd(ctx);
     }
 
     @Override
     public final void bindStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[BIND_START.ordinal()])
             listener.bindStart(ctx);
     }
 
     @Override
     public final void bindEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[BIND_END.ordinal()])
             listener.bindEnd(ctx);
     }
 
@@ -189,31 +325,31 @@ final class ExecuteListeners implements ExecuteListener {
         if (ctx instanceof DefaultExecuteContext)
             ((DefaultExecuteContext) ctx).incrementStatementExecutionCount();
 
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[EXECUTE_START.ordinal()])
             listener.executeStart(ctx);
     }
 
     @Override
     public final void executeEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[EXECUTE_END.ordinal()])
             listener.executeEnd(ctx);
     }
 
     @Override
     public final void fetchStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[FETCH_START.ordinal()])
             listener.fetchStart(ctx);
     }
 
     @Override
     public final void outStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[OUT_START.ordinal()])
             listener.outStart(ctx);
     }
 
     @Override
     public final void outEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[OUT_END.ordinal()])
             listener.outEnd(ctx);
     }
 
@@ -221,7 +357,7 @@ final class ExecuteListeners implements ExecuteListener {
     public final void resultStart(ExecuteContext ctx) {
         resultStart = true;
 
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[RESULT_START.ordinal()])
             listener.resultStart(ctx);
 
         ((DefaultExecuteContext) ctx).resultLevel++;
@@ -229,7 +365,7 @@ final class ExecuteListeners implements ExecuteListener {
 
     @Override
     public final void recordStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[RECORD_START.ordinal()])
             listener.recordStart(ctx);
 
         ((DefaultExecuteContext) ctx).recordLevel++;
@@ -239,7 +375,7 @@ final class ExecuteListeners implements ExecuteListener {
     public final void recordEnd(ExecuteContext ctx) {
         ((DefaultExecuteContext) ctx).recordLevel--;
 
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[RECORD_END.ordinal()])
             listener.recordEnd(ctx);
     }
 
@@ -248,7 +384,7 @@ final class ExecuteListeners implements ExecuteListener {
         ((DefaultExecuteContext) ctx).resultLevel--;
         resultStart = false;
 
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[RESULT_END.ordinal()])
             listener.resultEnd(ctx);
 
         if (fetchEnd)
@@ -260,25 +396,25 @@ final class ExecuteListeners implements ExecuteListener {
         if (resultStart)
             fetchEnd = true;
         else
-            for (ExecuteListener listener : listeners[1])
+            for (ExecuteListener listener : listeners[FETCH_END.ordinal()])
                 listener.fetchEnd(ctx);
     }
 
     @Override
     public final void end(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[END.ordinal()])
             listener.end(ctx);
     }
 
     @Override
     public final void exception(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[EXCEPTION.ordinal()])
             listener.exception(ctx);
     }
 
     @Override
     public final void warning(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[WARNING.ordinal()])
             listener.warning(ctx);
     }
 }
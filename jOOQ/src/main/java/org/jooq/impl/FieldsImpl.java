@@ -49,7 +49,10 @@ import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jooq.Configuration;
@@ -58,6 +61,7 @@ import org.jooq.Converter;
 import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Name;
+import org.jooq.Param;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.RecordType;
@@ -65,6 +69,7 @@ import org.jooq.Row;
 import org.jooq.SelectField;
 import org.jooq.Table;
 import org.jooq.TableField;
+import org.jooq.impl.QOM.UEmptyField;
 import org.jooq.impl.QOM.UTransient;
 import org.jooq.tools.JooqLogger;
 
@@ -77,8 +82,16 @@ import org.jooq.tools.JooqLogger;
  */
 final class FieldsImpl<R extends Record> extends AbstractQueryPart implements RecordType<R>, Mappable<R>, UTransient {
 
-    private static final JooqLogger log = JooqLogger.getLogger(FieldsImpl.class);
+    private static final JooqLogger log             = JooqLogger.getLogger(FieldsImpl.class);
+
+    /**
+     * The number of fields beyond which lookups use a {@link FieldIndex}
+     * rather than scanning {@link #fields}.
+     */
+    private static final int        INDEX_THRESHOLD = 8;
+
     Field<?>[]                      fields;
+    private transient FieldIndex    index;
 
     FieldsImpl(SelectField<?>... fields) {
         this.fields = Tools.map(fields, toField(), Field<?>[]::new);
@@ -219,20 +232,69 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         if (field == null)
             return result.resultNull();
 
+        FieldIndex x = index();
+        String fieldName = field.getName();
+
         // [#4540] Try finding a match by identity
-        for (int i = 0; i < fields.length; i++) {
-            Field<?> f = fields[i];
+        if (x != null) {
+            Integer i = x.identity.get(field);
 
-            if (f == field)
-                return result.result(f, i);
+            if (i != null)
+                return result.result(fields[i], i);
+        }
+        else {
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
+
+                if (f == field)
+                    return result.result(f, i);
+            }
         }
 
         // [#1802] Try finding an exact match (e.g. exact matching qualified name)
-        for (int i = 0; i < fields.length; i++) {
+        int[] named = x != null ? x.named(fieldName) : null;
+        int[] candidates = x != null ? x.equalityCandidates(named) : null;
+        int match = -1;
+
+        for (int j = 0, n = candidates != null ? candidates.length : fields.length; j < n; j++) {
+            int i = candidates != null ? candidates[j] : j;
             Field<?> f = fields[i];
 
-            if (f.equals(field))
-                return result.result(f, i);
+            if (f.equals(field)) {
+                if (candidates == null)
+                    return result.result(f, i);
+
+                match = i;
+                break;
+            }
+        }
+
+        // Fields of different names may still be equal if either one is plain
+        // SQL, e.g. field("count(*)") and count(). Such fields are checked, too,
+        // but only up to the first equal candidate, as the first equal field wins
+        if (candidates != null) {
+            int[] others = plainSQL(field) ? null : x.plainSQL;
+
+            for (int j = 0, k = 0, n = others != null ? others.length : fields.length; j < n; j++) {
+                int i = others != null ? others[j] : j;
+
+                if (match >= 0 && i >= match)
+                    break;
+
+                while (k < candidates.length && candidates[k] < i)
+                    k++;
+
+                if (k < candidates.length && candidates[k] == i)
+                    continue;
+
+                Field<?> f = fields[i];
+
+                if (f.equals(field))
+                    return result.result(f, i);
+            }
+
+            if (match >= 0)
+                return result.result(fields[match], match);
         }
 
         // [#4283] table / column matches are better than only column matches
@@ -241,9 +303,9 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         int indexMatch = -1;
 
         String tableName = tableName(field);
-        String fieldName = field.getName();
 
-        for (int i = 0; i < fields.length; i++) {
+        for (int j = 0, n = named != null ? named.length : fields.length; j < n; j++) {
+            int i = named != null ? named[j] : j;
             Field<?> f = fields[i];
             String fName = f.getName();
 
@@ -278,6 +340,14 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         return result.result(columnMatch, indexMatch);
     }
 
+    /**
+     * Whether a field is a plain SQL field, whose SQL isn't derived from its
+     * name.
+     */
+    private static final boolean plainSQL(Field<?> field) {
+        return field instanceof UEmptyField;
+    }
+
     private final String tableName(Field<?> field) {
         if (field instanceof TableField) { TableField<?, ?> f = (TableField<?, ?>) field;
             Table<?> table = f.getTable();
@@ -301,7 +371,11 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         Field<?> columnMatch = null;
         int indexMatch = -1;
 
-        for (int i = 0; i < fields.length; i++) {
+        FieldIndex x = index();
+        int[] named = x != null ? x.named(fieldName) : null;
+
+        for (int j = 0, n = named != null ? named.length : fields.length; j < n; j++) {
+            int i = named != null ? named[j] : j;
             Field<?> f = fields[i];
 
             if (f.getName().equals(fieldName)) {
@@ -519,6 +593,114 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         result[fields.length] = f;
 
         fields = result;
+        index = null;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Lookup indexes
+    // -------------------------------------------------------------------------
+
+    private final FieldIndex index() {
+        FieldIndex result = index;
+
+        if (result == null && fields.length > INDEX_THRESHOLD)
+            index = result = new FieldIndex(fields);
+
+        return result;
+    }
+
+    /**
+     * Hash indexes over a {@link FieldsImpl}'s fields, which replace the linear
+     * scans of the field lookups for wide record types, where possible.
+     * <p>
+     * The index is immutable, so it can be safely shared by all records of a
+     * {@link org.jooq.Result}, even across threads.
+     */
+    private static final class FieldIndex {
+
+        private static final int[]       NO_INDEXES = {};
+
+        /**
+         * The first position of each field, by identity.
+         */
+        final Map<Field<?>, Integer>     identity;
+
+        /**
+         * The positions of all fields, by unqualified name.
+         */
+        final Map<String, int[]>         names;
+
+        /**
+         * The positions of all bind values, which may be equal to fields by
+         * value, regardless of their name.
+         */
+        final int[]                      params;
+
+        /**
+         * The positions of all plain SQL fields, which may be equal to fields
+         * of a different name. All other fields are only ever equal if their
+         * names are equal.
+         */
+        final int[]                      plainSQL;
+
+        FieldIndex(Field<?>[] fields) {
+            Map<Field<?>, Integer> i = new IdentityHashMap<>(fields.length);
+            Map<String, int[]> n = new HashMap<>(fields.length * 2);
+            int[] p = NO_INDEXES;
+            int[] s = NO_INDEXES;
+
+            for (int j = 0; j < fields.length; j++) {
+                Field<?> f = fields[j];
+
+                i.putIfAbsent(f, j);
+                n.merge(f.getName(), new int[] { j }, FieldIndex::concat);
+
+                if (f instanceof Param)
+                    p = concat(p, new int[] { j });
+                else if (plainSQL(f))
+                    s = concat(s, new int[] { j });
+            }
+
+            this.identity = i;
+            this.names = n;
+            this.params = p;
+            this.plainSQL = s;
+        }
+
+        final int[] named(String name) {
+            return names.getOrDefault(name, NO_INDEXES);
+        }
+
+        /**
+         * The positions of fields that are most likely equal to a field of the
+         * given name, in their original order.
+         */
+        final int[] equalityCandidates(int[] named) {
+            if (params.length == 0)
+                return named;
+
+            int[] result = new int[named.length + params.length];
+            int i = 0, j = 0, k = 0;
+
+            while (i < named.length || j < params.length) {
+                if (j == params.length || i < named.length && named[i] < params[j])
+                    result[k++] = named[i++];
+                else if (i == named.length || params[j] < named[i])
+                    result[k++] = params[j++];
+                else {
+                    result[k++] = named[i++];
+                    j++;
+                }
+            }
+
+            return k == result.length ? result : Arrays.copyOf(result, k);
+        }
+
+        private static final int[] concat(int[] a, int[] b) {
+            int[] result = Arrays.copyOf(a, a.length + b.length);
+            System.arraycopy(b, 0, result, a.length, b.length);
+            return result;
+        }
     }
 
 
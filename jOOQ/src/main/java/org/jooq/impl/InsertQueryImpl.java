@@ -164,6 +164,7 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void newRecord() {
+        invalidateRendered();
         insertMaps.newRecord();
     }
 
@@ -182,32 +183,38 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void addRecord(R record) {
+        invalidateRendered();
         newRecord();
         setRecord(record);
     }
 
     @Override
     public final void onConflict(Field<?>... fields) {
+        invalidateRendered();
         onConflict(Arrays.asList(fields));
     }
 
     @Override
     public final void onConflict(Collection<? extends Field<?>> fields) {
+        invalidateRendered();
         this.onConflict = new QueryPartList<Field<?>>(fields).qualify(false);
     }
 
     @Override
     public final void onConflictWhere(Condition conditions) {
+        invalidateRendered();
         onConflictWhere.addConditions(conditions);
     }
 
     @Override
     public final void onConflictOnConstraint(Constraint constraint) {
+        invalidateRendered();
         onConflictOnConstraint0(constraint);
     }
 
     @Override
     public void onConflictOnConstraint(UniqueKey<R> constraint) {
+        invalidateRendered();
         if (StringUtils.isEmpty(constraint.getName()))
             throw new IllegalArgumentException("UniqueKey's name is not specified");
 
@@ -217,6 +224,7 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void onConflictOnConstraint(Name constraint) {
+        invalidateRendered();
         onConflictOnConstraint0(constraint(constraint));
     }
 
@@ -229,63 +237,75 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void onDuplicateKeyUpdate(boolean flag) {
+        invalidateRendered();
         this.onDuplicateKeyIgnore = false;
         this.onDuplicateKeyUpdate = flag;
     }
 
     @Override
     public final void onDuplicateKeyIgnore(boolean flag) {
+        invalidateRendered();
         this.onDuplicateKeyUpdate = false;
         this.onDuplicateKeyIgnore = flag;
     }
 
     @Override
     public final <T> void addValueForUpdate(Field<T> field, T value) {
+        invalidateRendered();
         updateMap.put(field, Tools.field(value, field));
     }
 
     @Override
     public final <T> void addValueForUpdate(Field<T> field, Field<T> value) {
+        invalidateRendered();
         updateMap.put(field, Tools.field(value, field));
     }
 
     @Override
     public final void addValuesForUpdate(Map<?, ?> map) {
+        invalidateRendered();
         updateMap.set(map);
     }
 
     @Override
     public final void addConditions(Condition conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Condition... conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Collection<? extends Condition> conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition... conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Collection<? extends Condition> conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void setDefaultValues() {
+        invalidateRendered();
         defaultValues = true;
     }
 
@@ -300,20 +320,28 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void setSelect(Field<?>[] f, Select<?> s) {
+        invalidateRendered();
         setSelect(Arrays.asList(f), s);
     }
 
     @Override
     public final void setSelect(Collection<? extends Field<?>> f, Select<?> s) {
+        invalidateRendered();
         insertMaps.addFields(f);
         select = s;
     }
 
     @Override
     public final void addValues(Map<?, ?> map) {
+        invalidateRendered();
         insertMaps.set(map);
     }
 
+    @Override
+    final boolean cacheableRendered() {
+        return true;
+    }
+
     @Override
     final void accept0(Context<?> ctx) {
 
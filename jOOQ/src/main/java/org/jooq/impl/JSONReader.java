@@ -129,17 +129,8 @@ final class JSONReader<R extends Record> {
             Map<String, Object> o1 = (Map<String, Object>) root;
             List<Map<String, String>> fields = (List<Map<String, String>>) o1.get("fields");
 
-            if (fields != null) {
-                for (Map<String, String> field : fields) {
-                    String catalog = field.get("catalog");
-                    String schema = field.get("schema");
-                    String table = field.get("table");
-                    String name = field.get("name");
-                    String type = field.get("type");
-
-                    header.add(field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
-                }
-            }
+            if (fields != null)
+                header(ctx, fields, header);
 
             records = (List<?>) o1.get("records");
         }
@@ -213,6 +204,18 @@ final class JSONReader<R extends Record> {
         return result;
     }
 
+    static final void header(DSLContext ctx, List<Map<String, String>> fields, List<Field<?>> header) {
+        for (Map<String, String> field : fields) {
+            String catalog = field.get("catalog");
+            String schema = field.get("schema");
+            String table = field.get("table");
+            String name = field.get("name");
+            String type = field.get("type");
+
+            header.add(field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
+        }
+    }
+
     private static final List<Object> sortedValues(Map<String, Object> record) {
 
         // [#13200] The MULTISET map keys are always of the form v0, v1, v2, ...
@@ -226,7 +229,7 @@ final class JSONReader<R extends Record> {
         return result;
     }
 
-    private static final List<Object> patchRecord(DSLContext ctx, boolean multiset, Fields result, List<Object> record) {
+    static final List<Object> patchRecord(DSLContext ctx, boolean multiset, Fields result, List<Object> record) {
         for (int i = 0; i < result.fields().length; i++) {
             Field<?> field = result.field(i);
 
@@ -0,0 +1,328 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.newRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.ParseException;
+
+/**
+ * A streaming counterpart of {@link JSONReader}, producing one row at a time.
+ * <p>
+ * This reader supports the same formats as {@link JSONReader}, i.e. the
+ * <code>{"fields":[...],"records":[...]}</code> format produced by
+ * {@link org.jooq.Formattable#formatJSON()}, as well as plain arrays of
+ * records, where records are either arrays or objects. Only a single record
+ * is materialised at a time, the remaining input is consumed lazily by
+ * {@link #hasNext()} using the resumable {@link ContentHandler} API of
+ * {@link JSONParser}.
+ * <p>
+ * The <code>"fields"</code> header is expected to precede the
+ * <code>"records"</code>, as it does in jOOQ's own JSON exports. If it is
+ * absent, the header is derived from the first record like in
+ * {@link JSONReader}.
+ *
+ * @author Lukas Eder
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class JSONRowReader implements Closeable, Iterator<Object[]> {
+
+    private final DSLContext           ctx;
+    private final Reader               reader;
+    private final JSONParser           parser;
+    private final Handler              handler;
+    private final List<Field<?>>       header;
+    private AbstractRow<Record>        row;
+    private boolean                    started;
+    private boolean                    finished;
+    private Object[]                   next;
+
+    JSONRowReader(DSLContext ctx, Reader reader) {
+        this.ctx = ctx;
+        this.reader = reader;
+        this.parser = new JSONParser();
+        this.handler = new Handler();
+        this.header = new ArrayList<>();
+    }
+
+    /**
+     * The fields of the rows produced by this reader, or <code>null</code> if
+     * they are not (yet) known.
+     * <p>
+     * The fields are known after the first call to {@link #hasNext()}
+     * returning <code>true</code>, or when the input contained a
+     * <code>"fields"</code> header.
+     */
+    final Field<?>[] fields() {
+        return header.isEmpty() ? null : header.toArray(EMPTY_FIELD);
+    }
+
+    @Override
+    public final boolean hasNext() {
+        try {
+            while (next == null && !finished) {
+                parser.parse(reader, handler, started);
+                started = true;
+            }
+
+            return next != null;
+        }
+        catch (IOException | ParseException e) {
+            throw new DataAccessException("Error while reading JSON", e);
+        }
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public final void close() throws IOException {
+        reader.close();
+    }
+
+    private final void record(Object record) {
+        if (row == null) {
+            if (header.isEmpty()) {
+                if (record instanceof Map)
+                    for (Object name : ((Map) record).keySet())
+                        header.add(field(name((String) name), VARCHAR));
+                else if (record instanceof List)
+                    header.addAll(Arrays.asList(Tools.fields(((List) record).size())));
+            }
+
+            row = (AbstractRow<Record>) Tools.row0(header);
+        }
+
+        // [#12930] NULL records are possible when nested ROW is
+        //          exported from an empty scalar subquery.
+        if (record == null)
+            next = new Object[row.size()];
+        else
+            next = newRecord(true, Record.class, row, ctx.configuration()).operate(r -> {
+                if (record instanceof Map)
+                    r.fromMap((Map<String, ?>) record);
+                else
+                    r.from(JSONReader.patchRecord(ctx, false, row, (List<Object>) record));
+
+                return r;
+            }).intoArray();
+    }
+
+    /**
+     * A {@link ContentHandler} that skips the document structure, collects
+     * the <code>"fields"</code> header, and materialises each record
+     * individually, pausing the parser after each record.
+     */
+    private final class Handler implements ContentHandler {
+
+        /**
+         * The currently open, materialised containers of the current record
+         * or header.
+         */
+        final Deque<Object>        containers = new ArrayDeque<>();
+
+        /**
+         * The pending object keys of the materialised containers.
+         */
+        final Deque<String>        keys       = new ArrayDeque<>();
+
+        /**
+         * The nesting depth of the document.
+         */
+        int                        depth;
+
+        /**
+         * The depth of the array containing the records, or <code>-1</code>
+         * if it has not been encountered yet.
+         */
+        int                        recordsDepth = -1;
+
+        /**
+         * Whether the document is a <code>{"fields":..,"records":..}</code>
+         * object.
+         */
+        boolean                    rootObject;
+
+        /**
+         * The current key of the root object.
+         */
+        String                     rootKey;
+
+        @Override
+        public void startJSON() {}
+
+        @Override
+        public void endJSON() {
+            finished = true;
+        }
+
+        @Override
+        public boolean startObject() {
+            return start(new LinkedHashMap<>());
+        }
+
+        @Override
+        public boolean endObject() {
+            return end();
+        }
+
+        @Override
+        public boolean startArray() {
+            return start(new ArrayList<>());
+        }
+
+        @Override
+        public boolean endArray() {
+            return end();
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            if (!containers.isEmpty())
+                keys.push(key);
+            else if (depth == 1)
+                rootKey = key;
+
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (!containers.isEmpty()) {
+                add(value);
+                return true;
+            }
+
+            // [#12930] A NULL record
+            else if (depth == recordsDepth) {
+                record(value);
+                return false;
+            }
+
+            return true;
+        }
+
+        private final boolean start(Object container) {
+            depth++;
+
+            if (!containers.isEmpty())
+                containers.push(container);
+
+            // The records array
+            else if (depth == 1 && container instanceof List || depth == 2 && rootObject && "records".equals(rootKey))
+                recordsDepth = depth;
+
+            // The document root
+            else if (depth == 1)
+                rootObject = true;
+
+            // A record, or any other root object entry, such as "fields"
+            else
+                containers.push(container);
+
+            return true;
+        }
+
+        private final boolean end() {
+            int d = depth--;
+
+            if (containers.isEmpty())
+                return true;
+
+            Object container = containers.pop();
+
+            if (!containers.isEmpty()) {
+                add(container);
+                return true;
+            }
+            else if (d == recordsDepth + 1) {
+                record(container);
+                return false;
+            }
+            else if (d == 2 && "fields".equals(rootKey) && container instanceof List && header.isEmpty()) {
+                JSONReader.header(ctx, (List<Map<String, String>>) container, header);
+            }
+
+            return true;
+        }
+
+        private final void add(Object value) {
+            Object parent = containers.peek();
+
+            if (parent instanceof Map)
+                ((Map) parent).put(keys.pop(), value);
+            else
+                ((List) parent).add(value);
+        }
+    }
+}
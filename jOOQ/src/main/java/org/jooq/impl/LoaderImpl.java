@@ -42,7 +42,10 @@ import static java.lang.Boolean.FALSE;
 import static org.jooq.SQLDialect.MARIADB;
 // ...
 import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.anyMatch;
+import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.combine;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
@@ -59,11 +62,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 import jakarta.xml.bind.DatatypeConverter;
@@ -88,11 +97,11 @@ import org.jooq.LoaderRowListener;
 import org.jooq.LoaderRowsStep;
 import org.jooq.LoaderXMLStep;
 import org.jooq.Record;
-import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.Source;
 import org.jooq.Table;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DetachedException;
 import org.jooq.exception.LoaderConfigurationException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
@@ -120,6 +129,7 @@ final class LoaderImpl<R extends Record> implements
 
     private static final JooqLogger      log                              = JooqLogger.getLogger(LoaderImpl.class);
     private static final Set<SQLDialect> NO_SUPPORT_ROWCOUNT_ON_DUPLICATE = SQLDialect.supportedBy(MARIADB, MYSQL);
+    private static final Set<SQLDialect> SUPPORT_COPY                     = SQLDialect.supportedBy(POSTGRES);
 
     // Configuration constants
     // -----------------------
@@ -159,6 +169,8 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private boolean                      bulkNative;
+    private int                          parallel                         = 1;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -179,19 +191,19 @@ final class LoaderImpl<R extends Record> implements
     // -----------
     private LoaderRowListener            onRowStart;
     private LoaderRowListener            onRowEnd;
-    private final LoaderContext          rowCtx                           = new DefaultLoaderContext();
-    private int                          ignored;
-    private int                          processed;
-    private int                          stored;
-    private int                          executed;
-    private int                          unexecuted;
-    private int                          uncommitted;
+    private final DefaultLoaderContext   rowCtx                           = new DefaultLoaderContext();
+    private final AtomicInteger          ignored                          = new AtomicInteger();
+    private final AtomicInteger          processed                        = new AtomicInteger();
+    private final AtomicInteger          stored                           = new AtomicInteger();
+    private final AtomicInteger          executed                         = new AtomicInteger();
+    private volatile boolean             aborted;
+    private final ReentrantLock          listenerLock                     = new ReentrantLock();
     private final List<LoaderError>      errors;
 
     LoaderImpl(Configuration configuration, Table<R> table) {
         this.configuration = configuration;
         this.table = table;
-        this.errors = new ArrayList<>();
+        this.errors = Collections.synchronizedList(new ArrayList<>());
     }
 
     // -------------------------------------------------------------------------
@@ -298,6 +310,18 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> bulkNative() {
+        bulkNative = true;
+        return this;
+    }
+
+    @Override
+    public final LoaderImpl<R> parallel(int threads) {
+        parallel = Math.max(1, threads);
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -677,22 +701,21 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void checkFlags() {
-        if (bulk != BULK_NONE && onDuplicate != ON_DUPLICATE_KEY_ERROR)
+        if ((bulk != BULK_NONE || bulkNative) && onDuplicate != ON_DUPLICATE_KEY_ERROR)
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
     }
 
     private final void executeJSON() {
-        Reader reader = null;
+        JSONRowReader reader = null;
 
         try {
-            reader = input.reader();
-            Result<Record> r = new JSONReader<>(configuration.dsl(), null, null).read(reader);
-            source = r.fields();
-
-            // The current json format is not designed for streaming. Thats why
-            // all records are loaded at once.
-            List<Object[]> allRecords = Arrays.asList(r.intoArrays());
-            executeSQL(allRecords.iterator());
+            reader = new JSONRowReader(configuration.dsl(), input.reader());
+
+            // Records are read one at a time. The header is known once the
+            // first record has been read.
+            reader.hasNext();
+            source = reader.fields();
+            executeSQL(reader);
         }
         finally {
             safeClose(reader);
@@ -760,219 +783,542 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
-        configuration.dsl().connection(connection -> {
-            Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+        Rows rows = new Rows(iterator);
 
-            if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
-                executeSQL(iterator, c.dsl());
+        if (parallel > 1 && configuration.connectionProvider() instanceof DefaultConnectionProvider) {
+            log.warn("Parallel loading", "A single JDBC connection cannot be shared between loader threads. Loading sequentially.");
+            parallel = 1;
+        }
+
+        if (parallel > 1) {
+            executeParallel(rows);
+        }
+        else {
+            configuration.dsl().connection(connection -> {
+                try (Worker worker = new Worker(connection, rowCtx, false)) {
+                    worker.execute(rows);
+
+                    // Rollback on errors in COMMIT_ALL mode
+                    if (commit == COMMIT_ALL)
+                        worker.commitAll(errors.isEmpty());
+                }
+            });
+        }
+    }
+
+    private final void executeParallel(Rows rows) {
+        Executor executor = configuration.executorProvider().provide();
+        List<CompletableFuture<Worker>> futures = new ArrayList<>(parallel);
+
+        for (int i = 0; i < parallel; i++)
+            futures.add(CompletableFuture.supplyAsync(blocking(() -> work(rows)), executor));
+
+        List<Worker> workers = new ArrayList<>(parallel);
+        RuntimeException failure = null;
+
+        for (CompletableFuture<Worker> future : futures) {
+            try {
+                workers.add(future.join());
             }
+            catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : e;
 
-            else {
-                try (CachedPSListener cache = new CachedPSListener()) {
-                    executeSQL(iterator, c
-                        .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
-                        .dsl()
-                    );
+                if (failure == null)
+                    failure = cause;
+                else
+                    failure.addSuppressed(cause);
+            }
+        }
+
+        // In COMMIT_ALL mode, the workers keep their connections until all
+        // workers are done, and then commit or rollback together
+        if (commit == COMMIT_ALL) {
+            for (Worker worker : workers) {
+                try {
+                    worker.commitAll(failure == null && errors.isEmpty());
+                }
+                finally {
+                    worker.close();
                 }
             }
-        });
+        }
+
+        if (failure != null)
+            throw failure;
     }
 
-    private final void executeSQL(Iterator<? extends Object[]> iterator, DSLContext ctx) {
-        Object[] row = null;
-        BatchBindStep bind = null;
-        InsertQuery<R> insert = null;
-        boolean newRecord = false;
+    private final Worker work(Rows rows) {
+        Connection connection = configuration.connectionProvider().acquire();
+
+        if (connection == null)
+            throw new DetachedException("No JDBC Connection provided by ConnectionProvider");
+
+        Worker worker = null;
+
+        try {
+            worker = new Worker(connection, new DefaultLoaderContext(), true);
+            worker.execute(rows);
+
+            // In COMMIT_ALL mode, the connection is kept until all workers are done
+            if (commit != COMMIT_ALL)
+                worker.close();
 
-        execution: {
-            rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
+            return worker;
+        }
+        catch (Error | RuntimeException e) {
+            aborted = true;
+
+            if (worker != null) {
                 try {
 
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
-                    rowCtx.row(row);
-                    if (onRowStart != null) {
-                        onRowStart.row(rowCtx);
-                        row = rowCtx.row();
-                    }
+                    // In COMMIT_ALL mode, a failed worker's connection must not
+                    // be released with pending changes
+                    if (commit == COMMIT_ALL)
+                        worker.rollback();
+                }
+                catch (RuntimeException r) {
+                    e.addSuppressed(r);
+                }
+                finally {
+                    worker.close();
+                }
+            }
+            else
+                configuration.connectionProvider().release(connection);
 
-                    // TODO: In batch mode, we can probably optimise this by not creating
-                    // new statements every time, just to convert bind values to their
-                    // appropriate target types. But beware of SQL dialects that tend to
-                    // need very explicit casting of bind values (e.g. Firebird)
-                    processed++;
-                    unexecuted++;
-                    uncommitted++;
+            throw e;
+        }
+    }
 
-                    if (insert == null)
-                        insert = ctx.insertQuery(table);
+    /**
+     * The input rows, shared by all {@link Worker}s.
+     */
+    private final class Rows {
+        final Iterator<? extends Object[]> iterator;
+        final ReentrantLock                lock;
+        int                                index;
+
+        Rows(Iterator<? extends Object[]> iterator) {
+            this.iterator = iterator;
+            this.lock = new ReentrantLock();
+        }
 
-                    if (newRecord) {
-                        newRecord = false;
-                        insert.newRecord();
-                    }
+        /**
+         * Move the next row to the worker, or return <code>false</code> if
+         * there are no more rows.
+         * <p>
+         * Reading the input may block, so a {@link ReentrantLock} is used
+         * rather than a monitor, which would pin virtual threads.
+         */
+        final boolean next(Worker worker) {
+            lock.lock();
+
+            try {
+                Object[] row;
+
+                if (aborted || !iterator.hasNext() || (row = iterator.next()) == null)
+                    return false;
+
+                // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+                if (row.getClass() != Object[].class)
+                    row = Arrays.copyOf(row, row.length, Object[].class);
+
+                // [#5145][#8755] Lazy initialisation of fields from the first row
+                // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+                if (fields == null)
+                    fields0(row);
+
+                worker.row = row;
+                worker.index = index++;
+                return true;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
 
-                    for (int i = 0; i < row.length; i++)
-                        if (i < fields.length && fields[i] != null)
-                            addValue0(insert, fields[i], row[i]);
+    /**
+     * A loader working on a single connection.
+     * <p>
+     * Sequential loads use a single worker. Parallel loads use one worker per
+     * connection, each batching, bulking and committing independently.
+     */
+    private final class Worker implements AutoCloseable {
+        final Connection           connection;
+        final DSLContext           ctx;
+        final CachedPSListener     cache;
+        final LoaderContext        context;
+        final boolean              release;
+        Object[]                   row;
+        int                        index;
+        int                        processed;
+        int                        unexecuted;
+        int                        uncommitted;
+
+        Worker(Connection connection, DefaultLoaderContext context, boolean release) {
+            Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
 
-                    // TODO: This is only supported by some dialects. Let other
-                    // dialects execute a SELECT and then either an INSERT or UPDATE
-                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                        insert.onDuplicateKeyUpdate(true);
+            this.connection = connection;
+            this.context = context;
+            this.release = release;
 
-                        for (int i = 0; i < row.length; i++)
-                            if (i < fields.length && fields[i] != null && !primaryKey.get(i))
-                                addValueForUpdate0(insert, fields[i], row[i]);
+            if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+                this.cache = null;
+                this.ctx = c.dsl();
+            }
+            else {
+                this.cache = new CachedPSListener();
+                this.ctx = c
+                    .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
+                    .dsl();
+            }
+        }
+
+        final void execute(Rows rows) {
+
+            // COPY cannot load rows without any columns, use INSERT .. DEFAULT VALUES instead
+            Object pgConnection = bulkNative && SUPPORT_COPY.contains(ctx.dialect()) && anyMatch(fields, f -> f != null)
+                ? pgConnection()
+                : null;
+
+            if (pgConnection != null)
+                executeCopy(rows, pgConnection);
+            else
+                executeInsert(rows);
+        }
+
+        private final Object pgConnection() {
+            try {
+                return PostgresCopyIn.pgConnection(ctx.configuration(), connection);
+            }
+
+            // The pgjdbc driver is not on the classpath
+            catch (LinkageError e) {
+                return null;
+            }
+        }
+
+        /**
+         * Prepare the current row, and count it as processed.
+         */
+        private final void prepare() {
+
+            // [#1627] [#5858] Handle NULL values and base64 encodings
+            // [#2741]         TODO: This logic will be externalised in new SPI
+            // [#8829]         JSON binary data has already been decoded at this point
+            for (int i = 0; i < row.length; i++)
+                if (StringUtils.equals(nullString, row[i]))
+                    row[i] = null;
+                else if (i < fields.length && fields[i] != null)
+                    if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                        row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
+
+            // [#10583] Pad row to the fields length
+            if (row.length < fields.length)
+                row = Arrays.copyOf(row, fields.length);
+
+            context.row(row);
+            if (onRowStart != null) {
+                listen(onRowStart);
+                row = context.row();
+            }
+
+            LoaderImpl.this.processed.incrementAndGet();
+            processed++;
+            unexecuted++;
+            uncommitted++;
+        }
+
+        /**
+         * Load rows using PostgreSQL's <code>COPY .. FROM STDIN</code>.
+         * <p>
+         * Each <code>COPY</code> statement takes as many rows as a single
+         * bulk / batch execution would have taken with <code>INSERT</code>,
+         * or all rows if neither <code>bulkAfter()</code> nor
+         * <code>batchAfter()</code> were specified.
+         */
+        private final void executeCopy(Rows rows, Object pgConnection) {
+            int size = bulk == BULK_AFTER && batch != BATCH_ALL || batch == BATCH_AFTER && bulk != BULK_ALL
+                ? bulkAfter * batchAfter
+                : Integer.MAX_VALUE;
+            PostgresCopyIn copy = null;
+
+            execution: {
+                while (rows.next(this)) {
+                    try {
+                        prepare();
+
+                        try {
+                            if (copy == null)
+                                copy = PostgresCopyIn.copyIn(ctx.configuration(), pgConnection, table, fields);
+
+                            copy.row(row);
+
+                            if (processed % size == 0) {
+                                end(copy);
+                                copy = null;
+
+                                if (commit == COMMIT_AFTER)
+                                    if ((processed / size) % commitAfter == 0)
+                                        commit();
+                            }
+                        }
+
+                        // Conversion errors also cancel the current COPY, like SQL
+                        // errors, as its buffered rows can't be kept apart
+                        catch (SQLException | RuntimeException e) {
+                            fail(copy, e);
+                            copy = null;
+
+                            if (onError == ON_ERROR_ABORT) {
+                                aborted = true;
+                                break execution;
+                            }
+                        }
+                    }
+                    finally {
+                        if (onRowEnd != null)
+                            listen(onRowEnd);
                     }
+                }
 
-                    // [#7253]  Use native onDuplicateKeyIgnore() support
-                    else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
-                        insert.onDuplicateKeyIgnore(true);
+                // Execute remaining rows
+                if (copy != null) {
+                    try {
+                        end(copy);
                     }
+                    catch (SQLException | RuntimeException e) {
+                        fail(copy, e);
+                    }
+                }
+
+                // Commit remaining elements in COMMIT_AFTER mode
+                if (commit == COMMIT_AFTER && uncommitted != 0)
+                    commit();
+
+                // execution:
+            }
+        }
+
+        private final void end(PostgresCopyIn copy) throws SQLException {
+            stored.addAndGet((int) copy.end());
+            executed.incrementAndGet();
+            unexecuted = 0;
+        }
+
+        private final void fail(PostgresCopyIn copy, Exception e) {
+            if (copy != null)
+                copy.cancel();
+
+            errors.add(new LoaderErrorImpl(
+                e instanceof DataAccessException
+                    ? (DataAccessException) e
+                    : new DataAccessException("Error while copying rows", e),
+                row, index, null
+            ));
+            ignored.addAndGet(unexecuted);
+            unexecuted = 0;
+        }
 
-                    // Don't do anything. Let the execution fail
-                    else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+        private final void executeInsert(Rows rows) {
+            BatchBindStep bind = null;
+            InsertQuery<R> insert = null;
+            boolean newRecord = false;
 
+            execution: {
+                rows: while (rows.next(this)) {
                     try {
-                        if (bulk != BULK_NONE) {
-                            if (bulk == BULK_ALL || processed % bulkAfter != 0) {
-                                newRecord = true;
-                                continue rows;
-                            }
+                        prepare();
+
+                        // TODO: In batch mode, we can probably optimise this by not creating
+                        // new statements every time, just to convert bind values to their
+                        // appropriate target types. But beware of SQL dialects that tend to
+                        // need very explicit casting of bind values (e.g. Firebird)
+                        if (insert == null)
+                            insert = ctx.insertQuery(table);
+
+                        if (newRecord) {
+                            newRecord = false;
+                            insert.newRecord();
+                        }
+
+                        for (int i = 0; i < row.length; i++)
+                            if (i < fields.length && fields[i] != null)
+                                addValue0(insert, fields[i], row[i]);
+
+                        // TODO: This is only supported by some dialects. Let other
+                        // dialects execute a SELECT and then either an INSERT or UPDATE
+                        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+                            insert.onDuplicateKeyUpdate(true);
+
+                            for (int i = 0; i < row.length; i++)
+                                if (i < fields.length && fields[i] != null && !primaryKey.get(i))
+                                    addValueForUpdate0(insert, fields[i], row[i]);
                         }
 
-                        if (batch != BATCH_NONE) {
-                            if (bind == null)
-                                bind = ctx.batch(insert);
+                        // [#7253]  Use native onDuplicateKeyIgnore() support
+                        else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
+                            insert.onDuplicateKeyIgnore(true);
+                        }
+
+                        // Don't do anything. Let the execution fail
+                        else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+
+                        try {
+                            if (bulk != BULK_NONE) {
+                                if (bulk == BULK_ALL || processed % bulkAfter != 0) {
+                                    newRecord = true;
+                                    continue rows;
+                                }
+                            }
+
+                            if (batch != BATCH_NONE) {
+                                if (bind == null)
+                                    bind = ctx.batch(insert);
+
+                                bind.bind(insert.getBindValues().toArray());
+                                insert = null;
+
+                                if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0)
+                                    continue rows;
+                            }
 
-                            bind.bind(insert.getBindValues().toArray());
+                            int[] rowcounts = { 0 };
+                            int totalRowCounts = 0;
+
+                            if (bind != null)
+                                rowcounts = bind.execute();
+                            else if (insert != null)
+                                rowcounts = new int[] { insert.execute() };
+
+                            // [#10358] The MySQL dialect category doesn't return rowcounts
+                            //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
+                            //          1 = INSERT, 2 = UPDATE, instead
+                            if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
+                                totalRowCounts = unexecuted;
+                            else
+                                for (int rowCount : rowcounts)
+                                    totalRowCounts += rowCount;
+
+                            stored.addAndGet(totalRowCounts);
+                            ignored.addAndGet(unexecuted - totalRowCounts);
+                            executed.incrementAndGet();
+
+                            unexecuted = 0;
+                            bind = null;
                             insert = null;
 
-                            if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0)
-                                continue rows;
+                            if (commit == COMMIT_AFTER)
+                                if ((processed % (bulkAfter * batchAfter) == 0) && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0))
+                                    commit();
+                        }
+                        catch (DataAccessException e) {
+                            errors.add(new LoaderErrorImpl(e, row, index, insert));
+                            ignored.addAndGet(unexecuted);
+                            unexecuted = 0;
+
+                            if (onError == ON_ERROR_ABORT) {
+                                aborted = true;
+                                break execution;
+                            }
                         }
 
-                        int[] rowcounts = { 0 };
-                        int totalRowCounts = 0;
+                    }
+                    finally {
+                        if (onRowEnd != null)
+                            listen(onRowEnd);
+                    }
+                    // rows:
+                }
 
+                // Execute remaining batch
+                if (unexecuted != 0) {
+                    try {
                         if (bind != null)
-                            rowcounts = bind.execute();
-                        else if (insert != null)
-                            rowcounts = new int[] { insert.execute() };
-
-                        // [#10358] The MySQL dialect category doesn't return rowcounts
-                        //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
-                        //          1 = INSERT, 2 = UPDATE, instead
-                        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
-                            totalRowCounts = unexecuted;
-                        else
-                            for (int rowCount : rowcounts)
-                                totalRowCounts += rowCount;
-
-                        stored += totalRowCounts;
-                        ignored += unexecuted - totalRowCounts;
-                        executed++;
+                            bind.execute();
+                        if (insert != null)
+                            insert.execute();
 
-                        unexecuted = 0;
-                        bind = null;
-                        insert = null;
+                        stored.addAndGet(unexecuted);
+                        executed.incrementAndGet();
 
-                        if (commit == COMMIT_AFTER)
-                            if ((processed % (bulkAfter * batchAfter) == 0) && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0))
-                                commit();
+                        unexecuted = 0;
                     }
                     catch (DataAccessException e) {
-                        errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
-                        ignored += unexecuted;
+                        errors.add(new LoaderErrorImpl(e, row, index, insert));
+                        ignored.addAndGet(unexecuted);
                         unexecuted = 0;
-
-                        if (onError == ON_ERROR_ABORT)
-                            break execution;
                     }
-
                 }
-                finally {
-                    if (onRowEnd != null)
-                        onRowEnd.row(rowCtx);
-                }
-                // rows:
-            }
 
-            // Execute remaining batch
-            if (unexecuted != 0) {
-                try {
-                    if (bind != null)
-                        bind.execute();
-                    if (insert != null)
-                        insert.execute();
+                // Commit remaining elements in COMMIT_AFTER mode
+                if (commit == COMMIT_AFTER && uncommitted != 0)
+                    commit();
 
-                    stored += unexecuted;
-                    executed++;
+                // execution:
+            }
+        }
+
+        /**
+         * Row listeners are not required to be thread safe, so they're called
+         * one at a time when loading in parallel.
+         */
+        private final void listen(LoaderRowListener listener) {
+            if (parallel > 1) {
+                listenerLock.lock();
 
-                    unexecuted = 0;
+                try {
+                    listener.row(context);
                 }
-                catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
-                    ignored += unexecuted;
-                    unexecuted = 0;
+                finally {
+                    listenerLock.unlock();
                 }
             }
-
-            // Commit remaining elements in COMMIT_AFTER mode
-            if (commit == COMMIT_AFTER && uncommitted != 0)
-                commit();
-
-            if (onError == ON_ERROR_ABORT)
-                break execution;
-
-            // execution:
+            else
+                listener.row(context);
         }
 
-        // Rollback on errors in COMMIT_ALL mode
-        try {
-            if (commit == COMMIT_ALL) {
-                if (!errors.isEmpty()) {
-                    stored = 0;
+        final void commitAll(boolean success) {
+            try {
+                if (success) {
+                    commit();
+                }
+                else {
+                    stored.set(0);
                     rollback();
                 }
-                else
-                    commit();
+            }
+            catch (DataAccessException e) {
+                errors.add(new LoaderErrorImpl(e, null, index, null));
             }
         }
-        catch (DataAccessException e) {
-            errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+
+        final void commit() {
+            ctx.connection(Connection::commit);
+            uncommitted = 0;
         }
-    }
 
-    private final void commit() {
-        configuration.dsl().connection(Connection::commit);
-        uncommitted = 0;
-    }
+        final void rollback() {
+            ctx.connection(Connection::rollback);
+        }
 
-    private final void rollback() {
-        configuration.dsl().connection(Connection::rollback);
+        @Override
+        public final void close() {
+            try {
+                if (cache != null)
+                    cache.close();
+            }
+            catch (SQLException e) {
+                throw new DataAccessException("Error while closing cached statements", e);
+            }
+            finally {
+                if (release)
+                    configuration.connectionProvider().release(connection);
+            }
+        }
     }
 
     /**
@@ -1000,22 +1346,22 @@ final class LoaderImpl<R extends Record> implements
 
     @Override
     public final int processed() {
-        return processed;
+        return processed.get();
     }
 
     @Override
     public final int executed() {
-        return executed;
+        return executed.get();
     }
 
     @Override
     public final int ignored() {
-        return ignored;
+        return ignored.get();
     }
 
     @Override
     public final int stored() {
-        return stored;
+        return stored.get();
     }
 
     @Override
@@ -1044,22 +1390,22 @@ final class LoaderImpl<R extends Record> implements
 
         @Override
         public final int processed() {
-            return processed;
+            return processed.get();
         }
 
         @Override
         public final int executed() {
-            return executed;
+            return executed.get();
         }
 
         @Override
         public final int ignored() {
-            return ignored;
+            return ignored.get();
         }
 
         @Override
         public final int stored() {
-            return stored;
+            return stored.get();
         }
     }
 }
@@ -0,0 +1,438 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.ParamType.INDEXED;
+import static org.jooq.impl.CacheType.CACHE_PARSED_QUERIES;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.Tools.map;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.jooq.DSLContext;
+import org.jooq.Delete;
+import org.jooq.Insert;
+import org.jooq.Merge;
+import org.jooq.Param;
+import org.jooq.Parser;
+import org.jooq.Query;
+import org.jooq.ResultQuery;
+import org.jooq.Update;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A cache for direct {@link Parser#parseQuery(String)} and
+ * {@link Parser#parseResultQuery(String)} calls.
+ * <p>
+ * The SQL string is normalised by lifting numeric literals to bind values
+ * where this can be done safely, i.e. where they are compared to something, or
+ * where they are elements of <code>IN</code> lists or <code>VALUES</code> rows.
+ * String literals are not lifted, as their bind values would be typed as
+ * <code>VARCHAR</code>, while a string literal may also represent e.g. a
+ * <code>UUID</code>, a date, an enum, or a JSON value in some dialects. The
+ * normalised SQL string is parsed and rendered only once, and each call then
+ * produces a new plain SQL query from the cached translation and its own
+ * literals. SQL strings that are not DML statements, or whose translation
+ * cannot be re-bound this way, are not cached.
+ *
+ * @author Lukas Eder
+ */
+final class ParserCache {
+
+    private static final JooqLogger log = JooqLogger.getLogger(ParserCache.class);
+
+    /**
+     * Parse a query using the cache, or return <code>null</code> if the SQL
+     * string cannot be cached.
+     */
+    static final Query parse(
+        DSLContext dsl,
+        String sql,
+        boolean resultQuery,
+        BiFunction<? super String, ? super Object[], ? extends Query> parser
+    ) {
+        if (!CACHE_PARSED_QUERIES.category.predicate.test(dsl.settings()))
+            return null;
+
+        Normalised n = normalise(sql);
+        if (n == null)
+            return null;
+
+        CacheValue value = Cache.run(
+            dsl.configuration(),
+            () -> {
+                log.debug("Parsed query cache miss", n.sql);
+                return CacheValue.of(dsl, n, parser);
+            },
+            CACHE_PARSED_QUERIES,
+            () -> Cache.key(Cache.key(n.sql, resultQuery), map(n.values, Object::getClass))
+        );
+
+        if (value == null || resultQuery && !value.resultQuery)
+            return null;
+
+        Object[] binds = new Object[value.mapping.length];
+        for (int i = 0; i < binds.length; i++)
+            binds[i] = val(n.values.get(value.mapping[i]));
+
+        return value.resultQuery
+            ? dsl.resultQuery(value.sql, binds)
+            : dsl.query(value.sql, binds);
+    }
+
+    static final class CacheValue {
+        final String  sql;
+        final int[]   mapping;
+        final boolean resultQuery;
+
+        private CacheValue(String sql, int[] mapping, boolean resultQuery) {
+            this.sql = sql;
+            this.mapping = mapping;
+            this.resultQuery = resultQuery;
+        }
+
+        static final CacheValue of(
+            DSLContext dsl,
+            Normalised n,
+            BiFunction<? super String, ? super Object[], ? extends Query> parser
+        ) {
+            Param<?>[] params = map(n.values, v -> val(v), Param[]::new);
+            Query query;
+
+            try {
+                query = parser.apply(n.sql, params);
+            }
+
+            // The original SQL string is parsed again by the caller, producing
+            // the appropriate exception, if applicable
+            catch (ParserException e) {
+                log.debug("Cannot cache normalised query", n.sql);
+                return null;
+            }
+
+            // Bind values cannot be used in DDL and other statements
+            if (!(query instanceof ResultQuery
+                || query instanceof Insert
+                || query instanceof Update
+                || query instanceof Delete
+                || query instanceof Merge))
+                return null;
+
+            DefaultRenderContext render = (DefaultRenderContext) dsl.renderContext();
+            render.paramType(INDEXED).visit(query);
+            List<Param<?>> bindValues = render.bindValues();
+
+            // Every rendered bind value must be one of the lifted literals, and
+            // every lifted literal must have been rendered as a bind value.
+            // Otherwise, the rendered SQL depends on the literals' values.
+            int[] mapping = new int[bindValues.size()];
+            BitSet mapped = new BitSet(params.length);
+
+            outer:
+            for (int j = 0; j < mapping.length; j++) {
+                for (int i = 0; i < params.length; i++) {
+                    if (params[i] == bindValues.get(j)) {
+                        mapping[j] = i;
+                        mapped.set(i);
+                        continue outer;
+                    }
+                }
+
+                log.debug("Cannot cache query with unexpected bind values", n.sql);
+                return null;
+            }
+
+            if (mapped.cardinality() < params.length) {
+                log.debug("Cannot cache query with inlined bind values", n.sql);
+                return null;
+            }
+
+            return new CacheValue(render.render(), mapping, query instanceof ResultQuery);
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Normalisation
+    // -------------------------------------------------------------------------
+
+    static final class Normalised {
+        final String       sql;
+        final List<Object> values;
+
+        Normalised(String sql, List<Object> values) {
+            this.sql = sql;
+            this.values = values;
+        }
+
+        @Override
+        public String toString() {
+            return sql + " " + values;
+        }
+    }
+
+    private enum Token {
+        COMPARISON,
+        ELEMENT,
+        COMMA,
+        IN,
+        VALUES,
+        OTHER
+    }
+
+    /**
+     * Lift numeric literals to bind values, or return <code>null</code> if the SQL
+     * string contains syntax that is too ambiguous for normalisation, such as
+     * existing bind variables, dollar quoted strings, or backslash escapes.
+     */
+    static final Normalised normalise(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length());
+        List<Object> values = new ArrayList<>();
+        BitSet lists = new BitSet();
+        int depth = 0;
+        int valuesDepth = -1;
+        Token previous = Token.OTHER;
+
+        for (int i = 0, l = sql.length(); i < l;) {
+            char c = sql.charAt(i);
+            char next = i + 1 < l ? sql.charAt(i + 1) : 0;
+            int j;
+
+            if (Character.isWhitespace(c)) {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            else if (c == '-' && next == '-') {
+                j = sql.indexOf('\n', i);
+                j = j == -1 ? l : j;
+            }
+            else if (c == '/' && next == '*') {
+                j = sql.indexOf("*/", i + 2);
+
+                if (j == -1)
+                    return null;
+
+                j = j + 2;
+            }
+            else {
+                switch (c) {
+                    case '\\':
+                    case '$':
+                    case '?':
+                    case '{':
+                    case '}':
+                        return null;
+
+                    case ':':
+                        if (Character.isLetter(next) || next == '_')
+                            return null;
+
+                        j = i + 1;
+                        previous = Token.OTHER;
+                        break;
+
+                    case '\'':
+                        if ((j = quoted(sql, i, '\'')) == -1)
+                            return null;
+
+                        previous = Token.OTHER;
+                        break;
+
+                    case '"':
+                    case '`':
+                    case '[':
+                        if ((j = quoted(sql, i, c == '[' ? ']' : c)) == -1)
+                            return null;
+
+                        lists.clear(depth);
+                        previous = Token.OTHER;
+                        break;
+
+                    case '(':
+                        boolean list = previous == Token.IN
+                            || previous == Token.VALUES
+                            || previous == Token.COMMA && depth == valuesDepth;
+
+                        lists.set(++depth, list);
+                        j = i + 1;
+                        previous = list ? Token.ELEMENT : Token.OTHER;
+                        break;
+
+                    case ',':
+                        j = i + 1;
+                        previous = lists.get(depth) ? Token.ELEMENT : Token.COMMA;
+                        break;
+
+                    case ')':
+                        lists.clear(depth);
+                        depth = Math.max(0, depth - 1);
+                        j = i + 1;
+                        previous = Token.OTHER;
+                        break;
+
+                    case '=':
+                    case '<':
+                    case '>':
+                    case '!':
+                        for (j = i + 1; j < l && "=<>!".indexOf(sql.charAt(j)) >= 0; j++);
+
+                        switch (sql.substring(i, j)) {
+                            case "=":
+                            case "<>":
+                            case "!=":
+                            case "<":
+                            case ">":
+                            case "<=":
+                            case ">=":
+                                previous = Token.COMPARISON;
+                                break;
+
+                            default:
+                                previous = Token.OTHER;
+                                break;
+                        }
+
+                        break;
+
+                    default:
+                        if (Character.isDigit(c) || c == '.' && Character.isDigit(next)) {
+                            boolean decimal = false;
+                            boolean exponent = false;
+
+                            for (j = i; j < l && Character.isDigit(sql.charAt(j)); j++);
+                            if (j < l && sql.charAt(j) == '.')
+                                for (decimal = true, j++; j < l && Character.isDigit(sql.charAt(j)); j++);
+
+                            if (j + 1 < l && (sql.charAt(j) == 'e' || sql.charAt(j) == 'E')) {
+                                int k = j + 1;
+
+                                if (sql.charAt(k) == '-')
+                                    k++;
+
+                                if (k < l && Character.isDigit(sql.charAt(k))) {
+                                    for (exponent = true, j = k; j < l && Character.isDigit(sql.charAt(j)); j++);
+                                }
+                            }
+
+                            if ((previous == Token.COMPARISON || previous == Token.ELEMENT)
+                                    && (j == l || !Character.isLetterOrDigit(sql.charAt(j)) && sql.charAt(j) != '_')) {
+                                String s = sql.substring(i, j);
+                                values.add(exponent ? Double.valueOf(s) : decimal ? new BigDecimal(s) : integer(s));
+                                sb.append('?');
+                                i = j;
+                            }
+
+                            previous = Token.OTHER;
+                        }
+                        else if (Character.isLetter(c) || c == '_') {
+                            for (j = i + 1; j < l && (Character.isLetterOrDigit(sql.charAt(j)) || sql.charAt(j) == '_' || sql.charAt(j) == '#'); j++);
+
+                            String word = sql.substring(i, j);
+
+                            // Prefixed string literals, such as N'abc' or DATE'2000-01-01'
+                            if (j < l && sql.charAt(j) == '\'')
+                                if ((j = quoted(sql, j, '\'')) == -1)
+                                    return null;
+
+                            lists.clear(depth);
+                            if (depth == valuesDepth)
+                                valuesDepth = -1;
+
+                            if ("IN".equalsIgnoreCase(word))
+                                previous = Token.IN;
+                            else if ("LIKE".equalsIgnoreCase(word))
+                                previous = Token.COMPARISON;
+                            else if ("VALUES".equalsIgnoreCase(word)) {
+                                previous = Token.VALUES;
+                                valuesDepth = depth;
+                            }
+                            else
+                                previous = Token.OTHER;
+                        }
+                        else {
+                            j = i + 1;
+                            previous = Token.OTHER;
+                        }
+
+                        break;
+                }
+            }
+
+            if (i < j) {
+                sb.append(sql, i, j);
+                i = j;
+            }
+        }
+
+        return new Normalised(sb.toString(), values);
+    }
+
+    private static final Number integer(String s) {
+        try {
+            return Long.valueOf(s);
+        }
+        catch (NumberFormatException e) {
+            return new BigInteger(s);
+        }
+    }
+
+    /**
+     * The position after a quoted string or identifier starting at
+     * <code>i</code>, where the closing quote is escaped by doubling it.
+     */
+    private static final int quoted(String sql, int i, char close) {
+        for (int j = i + 1, l = sql.length(); j < l; j++)
+            if (sql.charAt(j) == close)
+                if (j + 1 < l && sql.charAt(j + 1) == close)
+                    j++;
+                else
+                    return j + 1;
+
+        return -1;
+    }
+}
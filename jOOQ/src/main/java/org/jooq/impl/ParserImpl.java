@@ -463,6 +463,7 @@ import static org.jooq.impl.Transformations.transformAppendMissingTableReference
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.io.ByteArrayOutputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
@@ -479,6 +480,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
@@ -488,6 +491,8 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jooq.AggregateFilterStep;
 import org.jooq.AggregateFunction;
@@ -691,6 +696,7 @@ import org.jooq.conf.ParseWithMetaLookups;
 import org.jooq.conf.RenderKeywordCase;
 import org.jooq.conf.RenderNameCase;
 import org.jooq.conf.RenderQuotedNames;
+import org.jooq.exception.IOException;
 import org.jooq.impl.QOM.DocumentOrContent;
 import org.jooq.impl.QOM.JSONOnNull;
 // ...
@@ -737,6 +743,12 @@ final class ParserImpl implements Parser {
         return ctx(sql, bindings).parse();
     }
 
+    @Override
+    public final Stream<Query> parseStream(Reader reader) {
+        QueryStream result = new QueryStream(reader);
+        return StreamSupport.stream(result, false).onClose(result::close);
+    }
+
     @Override
     public final Query parseQuery(String sql) {
         return parseQuery(sql, EMPTY_OBJECT);
@@ -744,6 +756,13 @@ final class ParserImpl implements Parser {
 
     @Override
     public final Query parseQuery(String sql, Object... bindings) {
+        if (bindings.length == 0) {
+            Query result = ParserCache.parse(dsl, sql, false, (s, b) -> ctx(s, b).parseQuery0());
+
+            if (result != null)
+                return result;
+        }
+
         return ctx(sql, bindings).parseQuery0();
     }
 
@@ -780,6 +799,13 @@ final class ParserImpl implements Parser {
 
     @Override
     public final ResultQuery<?> parseResultQuery(String sql, Object... bindings) {
+        if (bindings.length == 0) {
+            Query result = ParserCache.parse(dsl, sql, true, (s, b) -> ctx(s, b).parseResultQuery0());
+
+            if (result != null)
+                return (ResultQuery<?>) result;
+        }
+
         return ctx(sql, bindings).parseResultQuery0();
     }
 
@@ -842,6 +868,92 @@ final class ParserImpl implements Parser {
     public final Name parseName(String sql, Object... bindings) {
         return ctx(sql, bindings).parseName0();
     }
+
+    /**
+     * The queries of a script that is read incrementally from a
+     * {@link Reader}.
+     * <p>
+     * Only the not yet parsed part of the script is buffered. Whenever a query
+     * cannot be parsed because it may be incomplete, the buffer is extended by
+     * at least its own size, and the query is parsed again, such that memory
+     * consumption is proportional to the largest query rather than the
+     * script.
+     */
+    private final class QueryStream extends Spliterators.AbstractSpliterator<Query> {
+
+        private static final int    CHUNK  = 8192;
+
+        private final Reader        reader;
+        private final StringBuilder buffer = new StringBuilder();
+        private final char[]        chunk  = new char[CHUNK];
+        private DefaultParseContext ctx;
+        private String              delimiter;
+        private boolean             eof;
+
+        QueryStream(Reader reader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+
+            this.reader = reader;
+        }
+
+        @Override
+        public final boolean tryAdvance(Consumer<? super Query> action) {
+            for (;;) {
+                if (ctx == null) {
+                    ctx = ctx(buffer.toString());
+
+                    if (delimiter != null)
+                        ctx.delimiter(delimiter);
+                }
+
+                // Comments following the previous query may not be complete yet
+                int start = ctx.positionBeforeWhitespace();
+                Query query = ctx.parseNext(eof);
+
+                if (query == DefaultParseContext.INCOMPLETE) {
+                    buffer.delete(0, start);
+                    read();
+                    ctx = null;
+                }
+                else if (query == null) {
+                    return false;
+                }
+                else {
+                    delimiter = ctx.delimiter();
+
+                    if (!(query instanceof DefaultParseContext.IgnoreQuery)) {
+                        action.accept(query);
+                        return true;
+                    }
+                }
+            }
+        }
+
+        private final void read() {
+            try {
+                for (int target = Math.max(CHUNK, buffer.length()), read = 0, r; read < target; read += r) {
+                    if ((r = reader.read(chunk)) < 0) {
+                        eof = true;
+                        return;
+                    }
+
+                    buffer.append(chunk, 0, r);
+                }
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Exception while reading SQL script", e);
+            }
+        }
+
+        final void close() {
+            try {
+                reader.close();
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Exception while closing SQL script", e);
+            }
+        }
+    }
 }
 
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -881,6 +993,60 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         });
     }
 
+    /**
+     * Parse the next query of a script that is being read incrementally.
+     *
+     * @param eof Whether the parsed characters are the end of the script.
+     * @return The next query, <code>null</code> if there are no more queries,
+     *         or {@link #INCOMPLETE} if more characters are needed to parse the
+     *         next query, because it isn't followed by a delimiter yet.
+     */
+    final Query parseNext(boolean eof) {
+        unterminated = false;
+
+        try {
+            return wrap(() -> {
+                parseDelimiterSpecifications();
+
+                while (parseDelimiterIf(false))
+                    ;
+
+                if (done())
+                    return eof ? null : INCOMPLETE;
+
+                Query query = patchParsedQuery(parseQuery(false, false));
+
+                // Like parse(), accept queries that aren't delimited, but
+                // only once we know they aren't followed by more characters
+                if (query == IGNORE_NO_DELIMITER || parseDelimiterIf(false) || eof && done())
+                    return notify(query);
+                else
+                    throw exception("Unexpected token or missing query delimiter");
+            });
+        }
+        catch (ParserException e) {
+
+            // Only errors in the last, possibly truncated token can be fixed
+            // by reading more characters
+            if (eof || !unterminated && !lastToken(e.position()))
+                throw e;
+            else
+                return INCOMPLETE;
+        }
+    }
+
+    /**
+     * Whether there is no whitespace between a position and the end of the
+     * parsed characters.
+     */
+    private final boolean lastToken(int p) {
+        for (int i = p; i < sql.length; i++)
+            if (Character.isWhitespace(sql[i]))
+                return false;
+
+        return true;
+    }
+
     private final void retainComments(List<Query> result, int p) {
         if (TRUE.equals(settings().isParseRetainCommentsBetweenQueries()) && p < position) {
             for (int i = p; i < position; i++) {
@@ -12564,7 +12730,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
                 return buffer.toByteArray();
             }
 
-            throw exception("Binary literal not terminated");
+            throw unterminated("Binary literal not terminated");
         }
 
         return null;
@@ -12605,7 +12771,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
             sb.append(c);
         }
 
-        throw exception("Quoted string literal not terminated");
+        throw unterminated("Quoted string literal not terminated");
     }
 
     private final String parseDollarQuotedStringLiteralIf() {
@@ -12661,6 +12827,10 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
             return substring(openTokenEnd + 1, closeTokenStart);
         }
 
+        // The literal isn't terminated, though it may still be read as
+        // something else
+        unterminated = true;
+
         position(previous);
         return null;
     }
@@ -12792,7 +12962,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
             sb.append(c1);
         }
 
-        throw exception("String literal not terminated");
+        throw unterminated("String literal not terminated");
     }
 
     private final Field<Number> parseFieldUnsignedNumericLiteral(Sign sign) {
@@ -13690,7 +13860,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         }
 
         if (blockCommentNestLevel > 0)
-            throw exception("Nested block comment not properly closed");
+            throw unterminated("Nested block comment not properly closed");
 
         return p;
     }
@@ -13889,6 +14059,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
 
     private static final DDLQuery IGNORE              = new IgnoreQuery();
     private static final Query    IGNORE_NO_DELIMITER = new IgnoreQuery();
+    static final Query            INCOMPLETE          = new IgnoreQuery();
 
     static final class IgnoreQuery extends AbstractDDLQuery implements UEmpty {
         final String sql;
@@ -13920,6 +14091,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
     private final Consumer<Param<?>>              bindParamListener;
     private int                                   positionBeforeWhitespace;
     private int                                   position               = 0;
+    private boolean                               unterminated           = false;
     private boolean                               ignoreHints            = true;
     private final Object[]                        bindings;
     private int                                   bindIndex              = 0;
@@ -14083,6 +14255,15 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         return init(new ParserException(mark(), message));
     }
 
+    /**
+     * An exception for a token that is still open at the end of the SQL
+     * string.
+     */
+    private final ParserException unterminated(String message) {
+        unterminated = true;
+        return exception(message);
+    }
+
     private final ParserException init(ParserException e) {
         int[] line = line();
         return e.position(position).line(line[0]).column(line[1]);
@@ -14173,11 +14354,15 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         return position(position + inc);
     }
 
-    private final String delimiter() {
+    final int positionBeforeWhitespace() {
+        return positionBeforeWhitespace;
+    }
+
+    final String delimiter() {
         return delimiter;
     }
 
-    private final void delimiter(String newDelimiter) {
+    final void delimiter(String newDelimiter) {
         delimiter = newDelimiter;
     }
 
@@ -0,0 +1,239 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.util.postgres.PostgresUtils;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * A <code>COPY .. FROM STDIN</code> operation used by the {@link LoaderImpl}
+ * in PostgreSQL.
+ * <p>
+ * Rows are encoded in PostgreSQL's text format, and streamed to the server
+ * through the pgjdbc <code>CopyManager</code> API. This class must only be
+ * loaded if the pgjdbc driver is on the classpath, see
+ * {@link #pgConnection(Configuration, Connection)}.
+ *
+ * @author Lukas Eder
+ */
+final class PostgresCopyIn {
+
+    private static final int      BUFFER_SIZE = 64 * 1024;
+    private static final char[]   HEX         = "0123456789abcdef".toCharArray();
+
+    private final CopyIn          copy;
+    private final Field<?>[]      fields;
+    private final StringBuilder   buffer;
+
+    private PostgresCopyIn(CopyIn copy, Field<?>[] fields) {
+        this.copy = copy;
+        this.fields = fields;
+        this.buffer = new StringBuilder(BUFFER_SIZE);
+    }
+
+    /**
+     * Get the driver's {@link PGConnection}, if available.
+     *
+     * @return The driver's {@link PGConnection}, or <code>null</code> if the
+     *         pgjdbc driver is not available, or if the connection cannot be
+     *         unwrapped.
+     */
+    static final Object pgConnection(Configuration configuration, Connection connection) {
+        try {
+            Object result = configuration.unwrapperProvider().provide().unwrap(connection, PGConnection.class);
+
+            if (result instanceof PGConnection)
+                return result;
+
+            // Unwrappers may return the argument connection if they cannot unwrap it
+            else if (connection.isWrapperFor(PGConnection.class))
+                return connection.unwrap(PGConnection.class);
+            else
+                return null;
+        }
+        catch (NoClassDefFoundError | RuntimeException | SQLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Start a new <code>COPY .. FROM STDIN</code> operation.
+     *
+     * @param pgConnection The connection obtained from
+     *            {@link #pgConnection(Configuration, Connection)}.
+     * @param fields The target columns, <code>null</code> elements are
+     *            skipped. At least one element must not be
+     *            <code>null</code>.
+     */
+    static final PostgresCopyIn copyIn(Configuration configuration, Object pgConnection, Table<?> table, Field<?>[] fields) throws SQLException {
+        StringBuilder sql = new StringBuilder("copy ")
+            .append(configuration.dsl().render(table))
+            .append(" (");
+
+        String separator = "";
+        for (Field<?> field : fields) {
+            if (field != null) {
+                sql.append(separator).append(configuration.dsl().render(field.getUnqualifiedName()));
+                separator = ", ";
+            }
+        }
+
+        sql.append(") from stdin");
+        return new PostgresCopyIn(((PGConnection) pgConnection).getCopyAPI().copyIn(sql.toString()), fields);
+    }
+
+    /**
+     * Encode and send a row.
+     * <p>
+     * Values are converted to their field's {@link org.jooq.DataType} and
+     * then back to the database type through the field's
+     * {@link Converter}, like bind values of an <code>INSERT</code>. All
+     * values of the row are converted before any of them is encoded, so a
+     * failing conversion does not leave a partial row in the buffer.
+     */
+    final void row(Object[] row) throws SQLException {
+        Object[] values = new Object[fields.length];
+
+        for (int i = 0; i < fields.length; i++)
+            if (fields[i] != null)
+                values[i] = convert(fields[i], i < row.length ? row[i] : null);
+
+        String separator = "";
+
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                buffer.append(separator);
+                value(values[i]);
+                separator = "\t";
+            }
+        }
+
+        buffer.append('\n');
+
+        if (buffer.length() >= BUFFER_SIZE)
+            flush();
+    }
+
+    /**
+     * Complete the <code>COPY</code> operation.
+     *
+     * @return The number of copied rows.
+     */
+    final long end() throws SQLException {
+        flush();
+        return copy.endCopy();
+    }
+
+    /**
+     * Cancel the <code>COPY</code> operation, if it is still active.
+     */
+    final void cancel() {
+        try {
+            if (copy.isActive())
+                copy.cancelCopy();
+        }
+        catch (SQLException ignore) {}
+    }
+
+    private final void flush() throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final Object convert(Field<?> field, Object value) {
+        return ((Converter) field.getConverter()).to(field.getDataType().convert(value));
+    }
+
+    private final void value(Object v) {
+        if (v == null)
+            buffer.append("\\N");
+
+        // The hex format for bytea, with its backslash escaped
+        else if (v instanceof byte[]) {
+            buffer.append("\\\\x");
+
+            for (byte b : (byte[]) v)
+                buffer.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+        else if (v instanceof Object[])
+            escape(PostgresUtils.toPGArrayString((Object[]) v));
+        else if (v instanceof Record)
+            escape(PostgresUtils.toPGString((Record) v));
+        else if (v instanceof EnumType)
+            escape(((EnumType) v).getLiteral());
+        else if (v instanceof BigDecimal)
+            buffer.append(((BigDecimal) v).toPlainString());
+        else
+            escape(v.toString());
+    }
+
+    /**
+     * Escape a value according to the rules of the text format.
+     */
+    private final void escape(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            switch (c) {
+                case '\\': buffer.append("\\\\"); break;
+                case '\n': buffer.append("\\n"); break;
+                case '\r': buffer.append("\\r"); break;
+                case '\t': buffer.append("\\t"); break;
+                default:   buffer.append(c); break;
+            }
+        }
+    }
+}
@@ -60,11 +60,17 @@ import org.jooq.tools.jdbc.DefaultConnection;
 final class ProviderEnabledConnection extends DefaultConnection {
 
     private final ConnectionProvider connectionProvider;
+    private final StatementCache     statementCache;
 
     ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection) {
+        this(connectionProvider, connection, null);
+    }
+
+    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection, StatementCache statementCache) {
         super(connection);
 
         this.connectionProvider = connectionProvider;
+        this.statementCache = statementCache;
     }
 
     // ------------------------------------------------------------------------
@@ -106,6 +112,12 @@ final class ProviderEnabledConnection extends DefaultConnection {
 
     @Override
     public final PreparedStatement prepareStatement(String sql) throws SQLException {
+        if (statementCache != null) {
+            PreparedStatement cached = statementCache.checkout(sql);
+
+            return new ProviderEnabledPreparedStatement(this, cached != null ? cached : getDelegate().prepareStatement(sql), statementCache, sql);
+        }
+
         return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql));
     }
 
@@ -51,11 +51,20 @@ import org.jooq.tools.jdbc.DefaultPreparedStatement;
 final class ProviderEnabledPreparedStatement extends DefaultPreparedStatement {
 
     private final ProviderEnabledConnection connection;
+    private final StatementCache            statementCache;
+    private final String                    sql;
+    private boolean                         checkedIn;
 
     ProviderEnabledPreparedStatement(ProviderEnabledConnection connection, PreparedStatement statement) {
+        this(connection, statement, null, null);
+    }
+
+    ProviderEnabledPreparedStatement(ProviderEnabledConnection connection, PreparedStatement statement, StatementCache statementCache, String sql) {
         super(statement);
 
         this.connection = connection;
+        this.statementCache = statementCache;
+        this.sql = sql;
     }
 
     // ------------------------------------------------------------------------
@@ -65,7 +74,16 @@ final class ProviderEnabledPreparedStatement extends DefaultPreparedStatement {
     @Override
     public final void close() throws SQLException {
         try {
-            getDelegate().close();
+
+            // Cached statements are returned to the cache, instead of being closed
+            if (statementCache != null) {
+                if (!checkedIn) {
+                    checkedIn = true;
+                    statementCache.checkin(sql, getDelegate());
+                }
+            }
+            else
+                getDelegate().close();
         }
         finally {
             connection.close();
@@ -65,13 +65,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Properties;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -205,30 +208,50 @@ final class R2DBC {
     // R2DBC implementations
     // -------------------------------------------------------------------------
 
+    /**
+     * A subscriber to the rows or update counts of a single R2DBC
+     * {@link Result}, forwarding them to the downstream subscriber.
+     * <p>
+     * Up to {@link Settings#getR2dbcPrefetch()} values are requested in
+     * advance and buffered until the downstream subscriber requests them.
+     * Once 75% of those have been forwarded, the same amount is requested
+     * again.
+     */
     static final class Forwarding<T> implements Subscriber<T> {
 
         final int                           forwarderIndex;
         final AbstractResultSubscriber<T>   resultSubscriber;
         final AtomicReference<Subscription> subscription;
-
-        Forwarding(int forwarderIndex, AbstractResultSubscriber<T> resultSubscriber) {
+        final int                           prefetch;
+        final int                           limit;
+        final Queue<T>                      queue;
+        final AtomicInteger                 wip;
+        volatile boolean                    done;
+        boolean                             terminated;
+        int                                 consumed;
+
+        Forwarding(int forwarderIndex, AbstractResultSubscriber<T> resultSubscriber, int prefetch) {
             this.forwarderIndex = forwarderIndex;
             this.resultSubscriber = resultSubscriber;
             this.subscription = new AtomicReference<>();
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new ConcurrentLinkedQueue<>();
+            this.wip = new AtomicInteger();
         }
 
         @Override
         public final void onSubscribe(Subscription s) {
             subscription.set(s);
-            resultSubscriber.downstream.request2(s);
+            s.request(prefetch);
         }
 
         @Override
         public final void onNext(T value) {
-            if (!resultSubscriber.downstream.completed.get()) {
-                resultSubscriber.downstream.subscriber.onNext(value);
-                resultSubscriber.downstream.request2(subscription.get());
-            }
+            if (value != null)
+                queue.offer(value);
+
+            drain();
         }
 
         @Override
@@ -238,8 +261,53 @@ final class R2DBC {
 
         @Override
         public final void onComplete() {
-            resultSubscriber.downstream.forwarders.remove(forwarderIndex);
-            resultSubscriber.complete();
+            done = true;
+            drain();
+        }
+
+        /**
+         * Forward buffered values as long as there is downstream demand.
+         * <p>
+         * Calls are serialised: concurrent or reentrant calls are recorded in
+         * {@link #wip}, and handled by the thread that is already draining.
+         */
+        final void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+
+            AbstractNonBlockingSubscription<? super T> downstream = resultSubscriber.downstream;
+            int missed = 1;
+
+            for (;;) {
+                if (terminated)
+                    return;
+
+                while (!queue.isEmpty() && downstream.moreRequested()) {
+                    downstream.subscriber.onNext(queue.poll());
+
+                    if (++consumed == limit) {
+                        consumed = 0;
+                        subscription.get().request(limit);
+                    }
+                }
+
+                if (downstream.completed.get()) {
+                    terminated = true;
+                    queue.clear();
+                    return;
+                }
+
+                if (done && queue.isEmpty()) {
+                    terminated = true;
+                    downstream.forwarders.remove(forwarderIndex);
+                    resultSubscriber.next();
+                    return;
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
         }
     }
 
@@ -247,15 +315,23 @@ final class R2DBC {
 
         final AbstractNonBlockingSubscription<? super T> downstream;
         final AtomicBoolean                              completed;
+        final AtomicReference<Subscription>              subscription;
 
         AbstractResultSubscriber(AbstractNonBlockingSubscription<? super T> downstream) {
             this.downstream = downstream;
             this.completed = new AtomicBoolean();
+            this.subscription = new AtomicReference<>();
         }
 
+        /**
+         * Results are requested one at a time, to prevent a driver from
+         * having to buffer the rows of subsequent results while the current
+         * one is being consumed.
+         */
         @Override
         public final void onSubscribe(Subscription s) {
-            s.request(Long.MAX_VALUE);
+            subscription.set(s);
+            s.request(1);
         }
 
         @Override
@@ -269,6 +345,16 @@ final class R2DBC {
             complete();
         }
 
+        /**
+         * Request the next result after the current one has been consumed.
+         */
+        final void next() {
+            if (!completed.get())
+                subscription.get().request(1);
+
+            complete();
+        }
+
         final void complete() {
             if (completed.get() && downstream.forwarders.isEmpty())
                 downstream.complete(false);
@@ -518,6 +604,7 @@ final class R2DBC {
         final Publisher<? extends Connection>       connection;
         final AtomicInteger                         nextForwarderIndex;
         final ConcurrentMap<Integer, Forwarding<T>> forwarders;
+        final int                                   prefetch;
 
         AbstractNonBlockingSubscription(
             Configuration configuration,
@@ -529,6 +616,7 @@ final class R2DBC {
             this.connection = configuration.connectionFactory().create();
             this.nextForwarderIndex = new AtomicInteger();
             this.forwarders = new ConcurrentHashMap<>();
+            this.prefetch = Math.max(1, defaultIfNull(configuration.settings().getR2dbcPrefetch(), 256));
         }
 
         abstract String sql();
@@ -567,12 +655,8 @@ final class R2DBC {
         }
 
         private final void request1() {
-            forAllForwardingSubscriptions(this::request2);
-        }
-
-        final void request2(Subscription s) {
-            if (moreRequested())
-                s.request(1);
+            for (Forwarding<T> f : forwarders.values())
+                f.drain();
         }
 
         @Override
@@ -601,7 +685,7 @@ final class R2DBC {
 
         final Forwarding<T> forwardingSubscriber(AbstractResultSubscriber<T> resultSubscriber) {
             int i = nextForwarderIndex.getAndIncrement();
-            Forwarding<T> f = new Forwarding<>(i, resultSubscriber);
+            Forwarding<T> f = new Forwarding<>(i, resultSubscriber, prefetch);
             forwarders.put(i, f);
             return f;
         }
@@ -1353,16 +1437,22 @@ final class R2DBC {
 
     static final class BlockingRecordSubscription<R extends Record> extends AbstractSubscription<R> {
         private final ResultQueryTrait<R> query;
+        private final ReentrantLock       lock;
         private volatile Cursor<R>        c;
 
         BlockingRecordSubscription(ResultQueryTrait<R> query, Subscriber<? super R> subscriber) {
             super(subscriber);
 
             this.query = query;
+            this.lock = new ReentrantLock();
         }
 
         @Override
-        final synchronized void request0() {
+        final void request0() {
+
+            // Not synchronized, to avoid pinning virtual threads during JDBC calls
+            lock.lock();
+
             try {
                 if (c == null)
                     c = query.fetchLazyNonAutoClosing();
@@ -1383,6 +1473,9 @@ final class R2DBC {
                 subscriber.onError(t);
                 safeClose(c);
             }
+            finally {
+                lock.unlock();
+            }
         }
 
         @Override
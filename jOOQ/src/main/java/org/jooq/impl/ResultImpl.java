@@ -54,6 +54,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 
 import org.jooq.Attachable;
@@ -119,13 +120,43 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
         this.records = new ArrayList<>();
     }
 
+    /**
+     * Create a read-only result storing its records in columns.
+     *
+     * @see ColumnarRecords
+     */
+    ResultImpl(Configuration configuration, AbstractRow fields, Supplier<R> factory) {
+        super(configuration, fields);
+
+        this.records = new ColumnarRecords<>(this, fields, factory);
+    }
+
+    /**
+     * Create a read-only result spilling its records to a temporary file
+     * beyond a memory budget in bytes.
+     *
+     * @see SpillingRecords
+     */
+    ResultImpl(Configuration configuration, AbstractRow fields, Supplier<R> factory, long budget) {
+        super(configuration, fields);
+
+        this.records = new SpillingRecords<>(this, factory, budget);
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Attachable API
     // -------------------------------------------------------------------------
 
     @Override
     final List<? extends Attachable> getAttachables() {
-        return records;
+
+        // Columnar and spilled records are attached to this result's
+        // configuration when they are materialised
+        return records instanceof ColumnarRecords
+             ? Collections.emptyList()
+             : records instanceof SpillingRecords
+             ? ((SpillingRecords<R>) records).memory()
+             : records;
     }
 
     // -------------------------------------------------------------------------
@@ -223,7 +254,12 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     }
 
     final void addRecord(R record) {
-        records.add(record);
+        if (records instanceof ColumnarRecords)
+            ((ColumnarRecords<R>) records).append(record);
+        else if (records instanceof SpillingRecords)
+            ((SpillingRecords<R>) records).append(record);
+        else
+            records.add(record);
     }
 
     @Override
@@ -963,6 +999,19 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Result<R> sortAsc(int fieldIndex, Comparator<?> comparator) {
+
+        // Spilled records are read only once to extract their sort keys
+        if (records instanceof SpillingRecords) {
+            ((SpillingRecords<R>) records).sort(safeIndex(fieldIndex), comparator);
+            return this;
+        }
+
+        // Columnar records are sorted by their column's values directly
+        else if (records instanceof ColumnarRecords) {
+            ((ColumnarRecords<R>) records).sort(safeIndex(fieldIndex), comparator);
+            return this;
+        }
+
         return sortAsc(new RecordComparator(fieldIndex, comparator));
     }
 
@@ -1036,8 +1085,14 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     public final Result<R> intern(int... fieldIndexes) {
         for (int fieldIndex : fieldIndexes)
             if (fields.field(fieldIndex).getType() == String.class)
-                for (Record record : this)
-                    ((AbstractRecord) record).intern0(fieldIndex);
+
+                // Columnar records are materialised from their columns, and
+                // spilled records from the temporary file, on each access
+                if (records instanceof ColumnarRecords)
+                    ((ColumnarRecords<R>) records).intern(safeIndex(fieldIndex));
+                else
+                    for (Record record : records instanceof SpillingRecords ? ((SpillingRecords<R>) records).memory() : records)
+                        ((AbstractRecord) record).intern0(fieldIndex);
 
         return this;
     }
@@ -1209,6 +1264,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
         records.clear();
     }
 
+    @Override
+    public final void sort(Comparator<? super R> c) {
+        records.sort(c);
+    }
+
     @Override
     public final R get(int index) {
         return records.get(index);
@@ -452,6 +452,7 @@ implements
                 getQuery().addHaving(condition);
                 break;
             case ON:
+                getDelegate().invalidateRendered();
                 joinConditions.addConditions(condition);
                 break;
             case QUALIFY:
@@ -521,6 +522,7 @@ implements
                 getQuery().addHaving(Operator.OR, condition);
                 break;
             case ON:
+                getDelegate().invalidateRendered();
                 joinConditions.addConditions(Operator.OR, condition);
                 break;
             case QUALIFY:
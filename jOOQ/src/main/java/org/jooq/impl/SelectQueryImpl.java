@@ -1352,6 +1352,11 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
 
 
+
+    @Override
+    final boolean cacheableRendered() {
+        return true;
+    }
 
     @Override
     public final void accept(Context<?> ctx) {
@@ -3241,26 +3246,31 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addSelect(Collection<? extends SelectFieldOrAsterisk> fields) {
+        invalidateRendered();
         getSelectAsSpecified().addAll(fields);
     }
 
     @Override
     public final void addSelect(SelectFieldOrAsterisk... fields) {
+        invalidateRendered();
         addSelect(Arrays.asList(fields));
     }
 
     @Override
     public final void setDistinct(boolean distinct) {
+        invalidateRendered();
         this.distinct = distinct;
     }
 
     @Override
     public final void addDistinctOn(SelectFieldOrAsterisk... fields) {
+        invalidateRendered();
         addDistinctOn(Arrays.asList(fields));
     }
 
     @Override
     public final void addDistinctOn(Collection<? extends SelectFieldOrAsterisk> fields) {
+        invalidateRendered();
         if (distinctOn == null)
             distinctOn = new QueryPartList<>();
 
@@ -3269,6 +3279,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setInto(Table<?> table) {
+        invalidateRendered();
         this.intoTable = table;
     }
 
@@ -3283,55 +3294,65 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addOffset(Number offset) {
+        invalidateRendered();
         getLimit().setOffset(offset);
     }
 
     @Override
     public final void addOffset(Field<? extends Number> offset) {
+        invalidateRendered();
         getLimit().setOffset(offset);
     }
 
     @Override
     public final void addLimit(Number l) {
+        invalidateRendered();
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Field<? extends Number> l) {
+        invalidateRendered();
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Number offset, Number l) {
+        invalidateRendered();
         getLimit().setOffset(offset);
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Number offset, Field<? extends Number> l) {
+        invalidateRendered();
         getLimit().setOffset(offset);
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Field<? extends Number> offset, Number l) {
+        invalidateRendered();
         getLimit().setOffset(offset);
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Field<? extends Number> offset, Field<? extends Number> l) {
+        invalidateRendered();
         getLimit().setOffset(offset);
         getLimit().setLimit(l);
     }
 
     @Override
     public final void setLimitPercent(boolean percent) {
+        invalidateRendered();
         getLimit().setPercent(percent);
     }
 
     @Override
     public final void setWithTies(boolean withTies) {
+        invalidateRendered();
         getLimit().setWithTies(withTies);
     }
 
@@ -3344,6 +3365,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForUpdate(boolean forUpdate) {
+        invalidateRendered();
         if (forUpdate)
             forLock().forLockMode = ForLockMode.UPDATE;
         else
@@ -3352,6 +3374,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForNoKeyUpdate(boolean forNoKeyUpdate) {
+        invalidateRendered();
         if (forNoKeyUpdate)
             forLock().forLockMode = ForLockMode.NO_KEY_UPDATE;
         else
@@ -3360,6 +3383,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForKeyShare(boolean forKeyShare) {
+        invalidateRendered();
         if (forKeyShare)
             forLock().forLockMode = ForLockMode.KEY_SHARE;
         else
@@ -3368,36 +3392,43 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForUpdateOf(Field<?>... fields) {
+        invalidateRendered();
         setForLockModeOf(fields);
     }
 
     @Override
     public final void setForUpdateOf(Collection<? extends Field<?>> fields) {
+        invalidateRendered();
         setForLockModeOf(fields);
     }
 
     @Override
     public final void setForUpdateOf(Table<?>... tables) {
+        invalidateRendered();
         setForLockModeOf(tables);
     }
 
     @Override
     public final void setForUpdateWait(int seconds) {
+        invalidateRendered();
         setForLockModeWait(seconds);
     }
 
     @Override
     public final void setForUpdateNoWait() {
+        invalidateRendered();
         setForLockModeNoWait();
     }
 
     @Override
     public final void setForUpdateSkipLocked() {
+        invalidateRendered();
         setForLockModeSkipLocked();
     }
 
     @Override
     public final void setForShare(boolean forShare) {
+        invalidateRendered();
         if (forShare)
             forLock().forLockMode = ForLockMode.SHARE;
         else
@@ -3406,11 +3437,13 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeOf(Field<?>... fields) {
+        invalidateRendered();
         setForLockModeOf(Arrays.asList(fields));
     }
 
     @Override
     public final void setForLockModeOf(Collection<? extends Field<?>> fields) {
+        invalidateRendered();
         initLockMode();
         forLock().forLockOf = new QueryPartList<>(fields);
         forLock().forLockOfTables = null;
@@ -3418,6 +3451,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeOf(Table<?>... tables) {
+        invalidateRendered();
         initLockMode();
         forLock().forLockOf = null;
         forLock().forLockOfTables = new TableList(Arrays.asList(tables));
@@ -3425,6 +3459,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeWait(int seconds) {
+        invalidateRendered();
         initLockMode();
         forLock().forLockWaitMode = ForLockWaitMode.WAIT;
         forLock().forLockWait = seconds;
@@ -3432,6 +3467,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeNoWait() {
+        invalidateRendered();
         initLockMode();
         forLock().forLockWaitMode = ForLockWaitMode.NOWAIT;
         forLock().forLockWait = 0;
@@ -3439,6 +3475,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeSkipLocked() {
+        invalidateRendered();
         initLockMode();
         forLock().forLockWaitMode = ForLockWaitMode.SKIP_LOCKED;
         forLock().forLockWait = 0;
@@ -3951,16 +3988,19 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addOrderBy(Collection<? extends OrderField<?>> fields) {
+        invalidateRendered();
         getOrderBy().addAll(Tools.sortFields(fields));
     }
 
     @Override
     public final void addOrderBy(OrderField<?>... fields) {
+        invalidateRendered();
         addOrderBy(Arrays.asList(fields));
     }
 
     @Override
     public final void addOrderBy(int... fieldIndexes) {
+        invalidateRendered();
         addOrderBy(map(fieldIndexes, v -> DSL.inline(v)));
     }
 
@@ -3979,11 +4019,13 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addSeekAfter(Field<?>... fields) {
+        invalidateRendered();
         addSeekAfter(Arrays.asList(fields));
     }
 
     @Override
     public final void addSeekAfter(Collection<? extends Field<?>> fields) {
+        invalidateRendered();
         if (unionOp.size() == 0)
             seekBefore = false;
         else
@@ -3995,12 +4037,14 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
     @Override
     @Deprecated
     public final void addSeekBefore(Field<?>... fields) {
+        invalidateRendered();
         addSeekBefore(Arrays.asList(fields));
     }
 
     @Override
     @Deprecated
     public final void addSeekBefore(Collection<? extends Field<?>> fields) {
+        invalidateRendered();
         if (unionOp.size() == 0)
             seekBefore = true;
         else
@@ -4011,31 +4055,37 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addConditions(Condition conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Condition... conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Collection<? extends Condition> conditions) {
+        invalidateRendered();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition... conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Collection<? extends Condition> conditions) {
+        invalidateRendered();
         condition.addConditions(operator, conditions);
     }
 
@@ -4054,26 +4104,31 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
 
     final void setHint(String hint) {
+        invalidateRendered();
         this.hint = hint;
     }
 
     final void setOption(String option) {
+        invalidateRendered();
         this.option = option;
     }
 
     @Override
     public final void addFrom(Collection<? extends TableLike<?>> f) {
+        invalidateRendered();
         for (TableLike<?> provider : f)
             getFrom().add(provider.asTable());
     }
 
     @Override
     public final void addFrom(TableLike<?> f) {
+        invalidateRendered();
         getFrom().add(f.asTable());
     }
 
     @Override
     public final void addFrom(TableLike<?>... f) {
+        invalidateRendered();
         for (TableLike<?> provider : f)
             getFrom().add(provider.asTable());
     }
@@ -4103,6 +4158,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addGroupBy(Collection<? extends GroupField> fields) {
+        invalidateRendered();
 
         // [#12910] For backwards compatibility, adding empty GROUP BY lists to
         //          a blank GROUP BY clause must maintain empty grouping set
@@ -4115,51 +4171,61 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setGroupByDistinct(boolean groupByDistinct) {
+        invalidateRendered();
         this.groupByDistinct = groupByDistinct;
     }
 
     @Override
     public final void addGroupBy(GroupField... fields) {
+        invalidateRendered();
         addGroupBy(Arrays.asList(fields));
     }
 
     @Override
     public final void addHaving(Condition conditions) {
+        invalidateRendered();
         getHaving().addConditions(conditions);
     }
 
     @Override
     public final void addHaving(Condition... conditions) {
+        invalidateRendered();
         getHaving().addConditions(conditions);
     }
 
     @Override
     public final void addHaving(Collection<? extends Condition> conditions) {
+        invalidateRendered();
         getHaving().addConditions(conditions);
     }
 
     @Override
     public final void addHaving(Operator operator, Condition conditions) {
+        invalidateRendered();
         getHaving().addConditions(operator, conditions);
     }
 
     @Override
     public final void addHaving(Operator operator, Condition... conditions) {
+        invalidateRendered();
         getHaving().addConditions(operator, conditions);
     }
 
     @Override
     public final void addHaving(Operator operator, Collection<? extends Condition> conditions) {
+        invalidateRendered();
         getHaving().addConditions(operator, conditions);
     }
 
     @Override
     public final void addWindow(WindowDefinition... definitions) {
+        invalidateRendered();
         addWindow(Arrays.asList(definitions));
     }
 
     @Override
     public final void addWindow(Collection<? extends WindowDefinition> definitions) {
+        invalidateRendered();
         if (window == null)
             window = new WindowList();
 
@@ -4168,31 +4234,37 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addQualify(Condition conditions) {
+        invalidateRendered();
         getQualify().addConditions(conditions);
     }
 
     @Override
     public final void addQualify(Condition... conditions) {
+        invalidateRendered();
         getQualify().addConditions(conditions);
     }
 
     @Override
     public final void addQualify(Collection<? extends Condition> conditions) {
+        invalidateRendered();
         getQualify().addConditions(conditions);
     }
 
     @Override
     public final void addQualify(Operator operator, Condition conditions) {
+        invalidateRendered();
         getQualify().addConditions(operator, conditions);
     }
 
     @Override
     public final void addQualify(Operator operator, Condition... conditions) {
+        invalidateRendered();
         getQualify().addConditions(operator, conditions);
     }
 
     @Override
     public final void addQualify(Operator operator, Collection<? extends Condition> conditions) {
+        invalidateRendered();
         getQualify().addConditions(operator, conditions);
     }
 
@@ -4204,6 +4276,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         if (this == other || (other instanceof SelectImpl && this == ((SelectImpl) other).getDelegate()))
             throw new IllegalArgumentException("In jOOQ 3.x's mutable DSL API, it is not possible to use the same instance of a Select query on both sides of a set operation like s.union(s)");
 
+        invalidateRendered();
         int index = unionOp.size() - 1;
 
         if (index == -1 || unionOp.get(index) != op || op == EXCEPT || op == EXCEPT_ALL) {
@@ -4249,21 +4322,25 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoin(TableLike<?> table, Condition conditions) {
+        invalidateRendered();
         addJoin(table, JoinType.JOIN, conditions);
     }
 
     @Override
     public final void addJoin(TableLike<?> table, Condition... conditions) {
+        invalidateRendered();
         addJoin(table, JoinType.JOIN, conditions);
     }
 
     @Override
     public final void addJoin(TableLike<?> table, JoinType type, Condition conditions) {
+        invalidateRendered();
         addJoin0(table, type, conditions, null);
     }
 
     @Override
     public final void addJoin(TableLike<?> table, JoinType type, Condition... conditions) {
+        invalidateRendered();
         addJoin0(table, type, conditions, null);
     }
 
@@ -4338,6 +4415,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoinOnKey(TableLike<?> table, JoinType type) throws DataAccessException {
+        invalidateRendered();
         // TODO: This and similar methods should be refactored, patterns extracted...
 
         int index = getFrom().size() - 1;
@@ -4362,6 +4440,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoinOnKey(TableLike<?> table, JoinType type, TableField<?, ?>... keyFields) throws DataAccessException {
+        invalidateRendered();
         // TODO: This and similar methods should be refactored, patterns extracted...
 
         int index = getFrom().size() - 1;
@@ -4386,6 +4465,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoinOnKey(TableLike<?> table, JoinType type, ForeignKey<?, ?> key) {
+        invalidateRendered();
         // TODO: This and similar methods should be refactored, patterns extracted...
 
         int index = getFrom().size() - 1;
@@ -4410,11 +4490,13 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoinUsing(TableLike<?> table, Collection<? extends Field<?>> fields) {
+        invalidateRendered();
         addJoinUsing(table, JoinType.JOIN, fields);
     }
 
     @Override
     public final void addJoinUsing(TableLike<?> table, JoinType type, Collection<? extends Field<?>> fields) {
+        invalidateRendered();
         // TODO: This and similar methods should be refactored, patterns extracted...
 
         int index = getFrom().size() - 1;
@@ -4439,11 +4521,13 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addHint(String h) {
+        invalidateRendered();
         setHint(h);
     }
 
     @Override
     public final void addOption(String o) {
+        invalidateRendered();
         setOption(o);
     }
 
@@ -0,0 +1,570 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.ref.Cleaner;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.Record;
+import org.jooq.exception.IOException;
+
+/**
+ * A read-only storage for the records of a {@link ResultImpl}, which keeps
+ * records in memory up to a memory budget, and spills all further records to
+ * a temporary file.
+ * <p>
+ * Spilled records are serialised in a compact binary format for the most
+ * common types, falling back to Java serialisation for all other types. They
+ * are read back from memory-mapped pages of the file, and materialised on each
+ * access. Modifications to such records aren't reflected in this storage, and
+ * all list modifications, except for sorting, throw
+ * {@link UnsupportedOperationException}.
+ * <p>
+ * The temporary file is deleted when this storage becomes unreachable. When
+ * serialised, all records are read back into a plain {@link ArrayList}.
+ *
+ * @author Lukas Eder
+ */
+final class SpillingRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Serializable {
+
+    private static final Cleaner      CLEANER = Cleaner.create();
+
+    private final AbstractFormattable result;
+    private final Supplier<R>         factory;
+    private final long                budget;
+    private final List<R>             memory;
+    private long                      estimate;
+    private Spill                     spill;
+    private int                       size;
+
+    /**
+     * The physical index of each record after sorting, or <code>null</code> if
+     * the records have not been sorted.
+     */
+    private int[]                     order;
+
+    SpillingRecords(AbstractFormattable result, Supplier<R> factory, long budget) {
+        this.result = result;
+        this.factory = factory;
+        this.budget = budget;
+        this.memory = new ArrayList<>();
+    }
+
+    /**
+     * Append a fetched record, either to memory, or to the temporary file.
+     */
+    final void append(R record) {
+        if (spill == null && (estimate += estimate(((AbstractRecord) record).values)) <= budget) {
+            memory.add(record);
+        }
+        else {
+            if (spill == null) {
+                spill = Spill.create();
+                CLEANER.register(this, spill);
+            }
+
+            spill.write(((AbstractRecord) record).values);
+        }
+
+        if (order != null) {
+            order = Arrays.copyOf(order, size + 1);
+            order[size] = size;
+        }
+
+        size++;
+    }
+
+    /**
+     * The records that are kept in memory.
+     */
+    final List<R> memory() {
+        return memory;
+    }
+
+    @Override
+    public final R get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        int physical = order == null ? index : order[index];
+        return physical < memory.size() ? memory.get(physical) : record(spill.read(physical - memory.size()));
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final void sort(Comparator<? super R> c) {
+        Comparator<? super R> comparator = c != null ? c : (Comparator<? super R>) Comparator.<Record>naturalOrder();
+        sort0((i, j) -> comparator.compare(physical(i), physical(j)));
+    }
+
+    /**
+     * Sort the records by a single field, reading each record only once to
+     * extract the sort keys.
+     */
+    @SuppressWarnings("unchecked")
+    final void sort(int fieldIndex, Comparator<?> c) {
+        Comparator<Object> comparator = (Comparator<Object>) c;
+        Object[] keys = new Object[size];
+
+        for (int i = 0; i < size; i++)
+            keys[i] = i < memory.size() ? memory.get(i).get(fieldIndex) : spill.read(i - memory.size())[fieldIndex];
+
+        sort0((i, j) -> comparator.compare(keys[i], keys[j]));
+    }
+
+    /**
+     * Serialise the records as a plain {@link ArrayList}, as the temporary
+     * file and the record factory aren't serializable. Deserialised records
+     * are stored in memory, like those of any other result.
+     */
+    private final Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+
+    private final void sort0(Comparator<Integer> comparator) {
+        Integer[] indexes = new Integer[size];
+
+        for (int i = 0; i < size; i++)
+            indexes[i] = order == null ? i : order[i];
+
+        // Arrays.sort(Object[]) is stable, just like List.sort()
+        Arrays.sort(indexes, comparator);
+
+        int[] o = new int[size];
+        for (int i = 0; i < size; i++)
+            o[i] = indexes[i];
+
+        order = o;
+    }
+
+    private final R physical(int physical) {
+        return physical < memory.size() ? memory.get(physical) : record(spill.read(physical - memory.size()));
+    }
+
+    private final R record(Object[] values) {
+        R record = factory.get();
+        AbstractRecord r = (AbstractRecord) record;
+
+        for (int i = 0; i < values.length; i++)
+            r.values[i] = r.originals[i] = values[i];
+
+        r.fetched = true;
+
+        Configuration c = result.configuration();
+        if (attachRecords(c))
+            record.attach(c);
+
+        return record;
+    }
+
+    /**
+     * A rough estimate of the heap size of a fetched record, including its
+     * values and originals arrays.
+     */
+    private static final long estimate(Object[] values) {
+        long result = 64 + 2 * (16 + 8 * values.length);
+
+        for (Object value : values)
+            if (value == null)
+                continue;
+            else if (value instanceof String)
+                result += 40 + 2 * ((String) value).length();
+            else if (value instanceof byte[])
+                result += 16 + ((byte[]) value).length;
+            else if (value instanceof Number && !(value instanceof BigDecimal || value instanceof BigInteger) || value instanceof Boolean)
+                result += 16;
+            else
+                result += 64;
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: The temporary file
+    // -------------------------------------------------------------------------
+
+    /**
+     * The temporary file, which is also the {@link Cleaner} action that
+     * deletes it.
+     */
+    private static final class Spill implements Runnable {
+
+        private static final int   PAGE_SHIFT = 26;
+        private static final long  PAGE_SIZE  = 1L << PAGE_SHIFT;
+
+        private static final byte  NULL       = 0;
+        private static final byte  INTEGER    = 1;
+        private static final byte  LONG       = 2;
+        private static final byte  DOUBLE     = 3;
+        private static final byte  TRUE       = 4;
+        private static final byte  FALSE      = 5;
+        private static final byte  STRING     = 6;
+        private static final byte  DECIMAL    = 7;
+        private static final byte  BIGINTEGER = 8;
+        private static final byte  BYTES      = 9;
+        private static final byte  SHORT      = 10;
+        private static final byte  BYTE       = 11;
+        private static final byte  FLOAT      = 12;
+        private static final byte  DATE       = 13;
+        private static final byte  TIME       = 14;
+        private static final byte  TIMESTAMP  = 15;
+        private static final byte  LOCALDATE  = 16;
+        private static final byte  LOCALDT    = 17;
+        private static final byte  UUID_      = 18;
+        private static final byte  OBJECT     = 19;
+
+        private final FileChannel           channel;
+        private final OutputStream          out;
+        private final ByteArrayOutputStream buffer;
+        private final DataOutputStream      data;
+        private long[]                      offsets;
+        private int                         count;
+        private long                        length;
+        private boolean                     dirty;
+        private MappedByteBuffer[]          pages;
+
+        private Spill(FileChannel channel) {
+            this.channel = channel;
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            this.buffer = new ByteArrayOutputStream();
+            this.data = new DataOutputStream(buffer);
+            this.offsets = new long[16];
+            this.pages = new MappedByteBuffer[0];
+        }
+
+        static final Spill create() {
+            try {
+                Path path = Files.createTempFile("jooq-result-", ".tmp");
+
+                try {
+                    return new Spill(FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE));
+                }
+                catch (java.io.IOException | RuntimeException e) {
+                    Files.deleteIfExists(path);
+                    throw e;
+                }
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Cannot create temporary file for spilled records", e);
+            }
+        }
+
+        final synchronized void write(Object[] values) {
+            try {
+                buffer.reset();
+
+                for (Object value : values)
+                    write(value);
+
+                if (count + 1 >= offsets.length)
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+
+                buffer.writeTo(out);
+                length += buffer.size();
+                offsets[++count] = length;
+                dirty = true;
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Cannot spill record to temporary file", e);
+            }
+        }
+
+        private final void write(Object value) throws java.io.IOException {
+            if (value == null) {
+                data.writeByte(NULL);
+            }
+            else if (value instanceof Integer) {
+                data.writeByte(INTEGER);
+                data.writeInt((Integer) value);
+            }
+            else if (value instanceof Long) {
+                data.writeByte(LONG);
+                data.writeLong((Long) value);
+            }
+            else if (value instanceof Double) {
+                data.writeByte(DOUBLE);
+                data.writeDouble((Double) value);
+            }
+            else if (value instanceof Boolean) {
+                data.writeByte((Boolean) value ? TRUE : FALSE);
+            }
+            else if (value instanceof String) {
+                data.writeByte(STRING);
+                bytes(((String) value).getBytes(UTF_8));
+            }
+            else if (value instanceof BigDecimal) {
+                data.writeByte(DECIMAL);
+                data.writeInt(((BigDecimal) value).scale());
+                bytes(((BigDecimal) value).unscaledValue().toByteArray());
+            }
+            else if (value instanceof BigInteger) {
+                data.writeByte(BIGINTEGER);
+                bytes(((BigInteger) value).toByteArray());
+            }
+            else if (value instanceof byte[]) {
+                data.writeByte(BYTES);
+                bytes((byte[]) value);
+            }
+            else if (value instanceof Short) {
+                data.writeByte(SHORT);
+                data.writeShort((Short) value);
+            }
+            else if (value instanceof Byte) {
+                data.writeByte(BYTE);
+                data.writeByte((Byte) value);
+            }
+            else if (value instanceof Float) {
+                data.writeByte(FLOAT);
+                data.writeFloat((Float) value);
+            }
+            else if (value.getClass() == java.sql.Date.class) {
+                data.writeByte(DATE);
+                data.writeLong(((java.sql.Date) value).getTime());
+            }
+            else if (value.getClass() == Time.class) {
+                data.writeByte(TIME);
+                data.writeLong(((Time) value).getTime());
+            }
+            else if (value.getClass() == Timestamp.class) {
+                data.writeByte(TIMESTAMP);
+                data.writeLong(((Timestamp) value).getTime());
+                data.writeInt(((Timestamp) value).getNanos());
+            }
+            else if (value instanceof LocalDate) {
+                data.writeByte(LOCALDATE);
+                data.writeLong(((LocalDate) value).toEpochDay());
+            }
+            else if (value instanceof LocalDateTime) {
+                data.writeByte(LOCALDT);
+                data.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+                data.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+            }
+            else if (value instanceof UUID) {
+                data.writeByte(UUID_);
+                data.writeLong(((UUID) value).getMostSignificantBits());
+                data.writeLong(((UUID) value).getLeastSignificantBits());
+            }
+            else {
+                ByteArrayOutputStream b = new ByteArrayOutputStream();
+
+                try (ObjectOutputStream o = new ObjectOutputStream(b)) {
+                    o.writeObject(value);
+                }
+
+                data.writeByte(OBJECT);
+                bytes(b.toByteArray());
+            }
+        }
+
+        private final void bytes(byte[] bytes) throws java.io.IOException {
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        final synchronized Object[] read(int index) {
+            try {
+                if (dirty) {
+                    out.flush();
+                    dirty = false;
+                }
+
+                long offset = offsets[index];
+                int size = (int) (offsets[index + 1] - offset);
+                int page = (int) (offset >>> PAGE_SHIFT);
+                ByteBuffer b;
+
+                // Records within a single page are read from the mapped page
+                if ((offset + size - 1) >>> PAGE_SHIFT == page) {
+                    b = page(page, offset + size).duplicate();
+                    b.position((int) (offset - ((long) page << PAGE_SHIFT)));
+                }
+
+                // Records spanning several pages are read directly
+                else {
+                    b = ByteBuffer.allocate(size);
+
+                    while (b.hasRemaining())
+                        if (channel.read(b, offset + b.position()) < 0)
+                            throw new java.io.EOFException();
+
+                    b.flip();
+                }
+
+                int end = b.position() + size;
+                List<Object> result = new ArrayList<>();
+
+                while (b.position() < end)
+                    result.add(read(b));
+
+                return result.toArray();
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Cannot read spilled record from temporary file", e);
+            }
+        }
+
+        /**
+         * Get a mapped page that contains at least all bytes up to the given
+         * end position.
+         */
+        private final MappedByteBuffer page(int page, long end) throws java.io.IOException {
+            if (page >= pages.length)
+                pages = Arrays.copyOf(pages, page + 1);
+
+            long start = (long) page << PAGE_SHIFT;
+            if (pages[page] == null || start + pages[page].capacity() < end)
+                pages[page] = channel.map(MapMode.READ_ONLY, start, Math.min(PAGE_SIZE, length - start));
+
+            return pages[page];
+        }
+
+        private static final Object read(ByteBuffer b) throws java.io.IOException {
+            switch (b.get()) {
+                case NULL:
+                    return null;
+                case INTEGER:
+                    return b.getInt();
+                case LONG:
+                    return b.getLong();
+                case DOUBLE:
+                    return b.getDouble();
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                case STRING:
+                    return new String(bytes(b), UTF_8);
+                case DECIMAL: {
+                    int scale = b.getInt();
+                    return new BigDecimal(new BigInteger(bytes(b)), scale);
+                }
+                case BIGINTEGER:
+                    return new BigInteger(bytes(b));
+                case BYTES:
+                    return bytes(b);
+                case SHORT:
+                    return b.getShort();
+                case BYTE:
+                    return b.get();
+                case FLOAT:
+                    return b.getFloat();
+                case DATE:
+                    return new java.sql.Date(b.getLong());
+                case TIME:
+                    return new Time(b.getLong());
+                case TIMESTAMP: {
+                    Timestamp result = new Timestamp(b.getLong());
+                    result.setNanos(b.getInt());
+                    return result;
+                }
+                case LOCALDATE:
+                    return LocalDate.ofEpochDay(b.getLong());
+                case LOCALDT: {
+                    LocalDate date = LocalDate.ofEpochDay(b.getLong());
+                    return LocalDateTime.of(date, LocalTime.ofNanoOfDay(b.getLong()));
+                }
+                case UUID_:
+                    return new UUID(b.getLong(), b.getLong());
+                case OBJECT:
+                    try (ObjectInputStream o = new ObjectInputStream(new ByteArrayInputStream(bytes(b)))) {
+                        return o.readObject();
+                    }
+                    catch (ClassNotFoundException e) {
+                        throw new java.io.IOException(e);
+                    }
+                default:
+                    throw new java.io.IOException("Corrupt temporary file");
+            }
+        }
+
+        private static final byte[] bytes(ByteBuffer b) {
+            byte[] result = new byte[b.getInt()];
+            b.get(result);
+            return result;
+        }
+
+        @Override
+        public final void run() {
+            try {
+                channel.close();
+            }
+            catch (java.io.IOException ignore) {}
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.conf.Settings;
+
+/**
+ * A client side cache of idle {@link PreparedStatement} instances of a single
+ * JDBC {@link Connection}, keyed by their SQL string.
+ * <p>
+ * Statements are checked out exclusively for the duration of an execution,
+ * and checked back in when jOOQ closes them, such that no two executions ever
+ * share a statement. Statements evicted from the cache, displaced by another
+ * statement of the same SQL string, or still idle when the cache is closed,
+ * are closed.
+ * <p>
+ * See {@link Settings#isCachePreparedStatements()}.
+ *
+ * @author Lukas Eder
+ */
+final class StatementCache implements AutoCloseable {
+
+    private final int                                  size;
+    private final LinkedHashMap<String, PreparedStatement> idle;
+    private boolean                                    closed;
+
+    StatementCache(int size) {
+        this.size = Math.max(1, size);
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Check out an idle statement for a SQL string, or return
+     * <code>null</code> if there is no such statement.
+     */
+    final PreparedStatement checkout(String sql) {
+        PreparedStatement result;
+
+        synchronized (this) {
+            result = closed ? null : idle.remove(sql);
+        }
+
+        if (result != null) {
+            try {
+
+                // Reset any state that a previous execution may have set, and
+                // that is not set again by every execution.
+                if (result.isClosed())
+                    return null;
+
+                result.clearParameters();
+                result.clearBatch();
+                result.clearWarnings();
+                result.setMaxRows(0);
+                result.setFetchSize(0);
+                result.setQueryTimeout(0);
+            }
+            catch (SQLException e) {
+                safeClose(result);
+                return null;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Check in a statement after its execution.
+     */
+    final void checkin(String sql, PreparedStatement statement) {
+        List<PreparedStatement> close = new ArrayList<>(1);
+
+        synchronized (this) {
+            if (closed) {
+                close.add(statement);
+            }
+            else {
+                PreparedStatement displaced = idle.put(sql, statement);
+
+                if (displaced != null)
+                    close.add(displaced);
+
+                Iterator<Map.Entry<String, PreparedStatement>> it = idle.entrySet().iterator();
+                while (idle.size() > size && it.hasNext()) {
+                    close.add(it.next().getValue());
+                    it.remove();
+                }
+            }
+        }
+
+        for (PreparedStatement s : close)
+            safeClose(s);
+    }
+
+    @Override
+    public final void close() {
+        List<PreparedStatement> close;
+
+        synchronized (this) {
+            closed = true;
+            close = new ArrayList<>(idle.values());
+            idle.clear();
+        }
+
+        for (PreparedStatement s : close)
+            safeClose(s);
+    }
+}
@@ -58,7 +58,6 @@ import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.collect;
 import static org.jooq.impl.Tools.filter;
 import static org.jooq.impl.Tools.indexOrFail;
-import static org.jooq.impl.Tools.settings;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.math.BigInteger;
@@ -206,48 +205,44 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
     }
 
     final void getReturningIfNeeded(StoreQuery<R> query, Collection<Field<?>> key) {
-        if (key != null && !key.isEmpty()) {
-            R record = query.getReturnedRecord();
-
-            if (record != null) {
-                for (Field<?> field : key) {
-                    int index = indexOrFail(fieldsRow(), field);
-                    Object value = record.get(field);
+        if (key != null && !key.isEmpty())
+            getReturningIfNeeded(query.getReturnedRecord(), key);
+    }
 
-                    values[index] = value;
-                    originals[index] = value;
-                }
+    /**
+     * Apply a record returned from an <code>INSERT</code> or
+     * <code>UPDATE</code> statement to this record.
+     */
+    final void getReturningIfNeeded(R record, Collection<Field<?>> key) {
+        if (record != null) {
+            for (Field<?> field : key) {
+                int index = indexOrFail(fieldsRow(), field);
+                Object value = record.get(field);
+
+                values[index] = value;
+                originals[index] = value;
             }
+        }
 
-            // [#1859] In some databases, not all fields can be fetched via getGeneratedKeys()
-            if (TRUE.equals(configuration().settings().isReturnAllOnUpdatableRecord())
-                    && (REFRESH_GENERATED_KEYS.contains(configuration().dialect())
+        // [#1859] In some databases, not all fields can be fetched via getGeneratedKeys()
+        if (configuration() != null
+                && TRUE.equals(configuration().settings().isReturnAllOnUpdatableRecord())
+                && (REFRESH_GENERATED_KEYS.contains(configuration().dialect())
 
 
 
 
 
-                    )
-                    && this instanceof UpdatableRecord)
-                ((UpdatableRecord<?>) this).refresh(key.toArray(EMPTY_FIELD));
-        }
+                )
+                && this instanceof UpdatableRecord)
+            ((UpdatableRecord<?>) this).refresh(key.toArray(EMPTY_FIELD));
     }
 
     final Collection<Field<?>> setReturningIfNeeded(StoreQuery<R> query) {
         Collection<Field<?>> key = null;
 
         if (configuration() != null)
-
-            // [#7966] Allow users to turning off the returning clause entirely
-            if (!FALSE.equals(configuration().settings().isReturnIdentityOnUpdatableRecord()))
-
-                // [#1859] Return also non-key columns
-                if (TRUE.equals(configuration().settings().isReturnAllOnUpdatableRecord()))
-                    key = Arrays.asList(fields());
-
-                // [#5940] Getting the primary key mostly doesn't make sense on UPDATE statements
-                else if (query instanceof InsertQuery || updatablePrimaryKeys(settings(this)))
-                    key = getReturning();
+            key = returning(configuration().settings(), query instanceof InsertQuery);
 
         if (key != null)
             query.setReturning(key);
@@ -255,6 +250,26 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
         return key;
     }
 
+    /**
+     * The fields that should be returned when storing this record, according
+     * to the {@link Settings}, or <code>null</code> if none should be returned.
+     */
+    final Collection<Field<?>> returning(Settings settings, boolean insert) {
+
+        // [#7966] Allow users to turning off the returning clause entirely
+        if (!FALSE.equals(settings.isReturnIdentityOnUpdatableRecord()))
+
+            // [#1859] Return also non-key columns
+            if (TRUE.equals(settings.isReturnAllOnUpdatableRecord()))
+                return Arrays.asList(fields());
+
+            // [#5940] Getting the primary key mostly doesn't make sense on UPDATE statements
+            else if (insert || updatablePrimaryKeys(settings))
+                return getReturning();
+
+        return null;
+    }
+
     /**
      * Set a generated version and timestamp value onto this record after
      * successfully storing the record.
@@ -700,6 +700,12 @@ final class Tools {
          * statement.
          */
         DATA_SELECT_ALIASES,
+
+        /**
+         * The {@link BatchCRUD} collector that receives queries instead of
+         * them being executed.
+         */
+        DATA_BATCH_CRUD_COLLECTOR,
     }
 
     /**
@@ -3187,6 +3193,7 @@ final class Tools {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
+        target.unshareOriginals();
         target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
         target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
         target.changed.set(targetIndex, source.changed(sourceIndex));
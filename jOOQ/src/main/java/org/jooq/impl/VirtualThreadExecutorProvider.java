@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.Serializable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.ExecutorProvider;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * An {@link ExecutorProvider} running asynchronous tasks, such as
+ * {@link org.jooq.Query#executeAsync()} or
+ * {@link org.jooq.ResultQuery#fetchAsync()}, on virtual threads.
+ * <p>
+ * On JDK 21 and later, each task runs on a new virtual thread. This way,
+ * blocking JDBC calls park a cheap virtual thread, rather than occupying a
+ * thread of the {@link java.util.concurrent.ForkJoinPool#commonPool()},
+ * which the {@link DefaultExecutorProvider} uses. On earlier JDKs, tasks run
+ * on platform threads instead.
+ * <p>
+ * The number of tasks that run at the same time can be limited with
+ * <code>maxConcurrency</code>. Further tasks wait for a permit without
+ * blocking their submitting thread. As an {@link ExecutorProvider} is
+ * configured per {@link Configuration}, this limits the number of concurrent
+ * tasks per {@link ConnectionProvider}, e.g. to the size of a connection
+ * pool, so that a large number of asynchronous queries does not just queue
+ * up waiting for connections.
+ *
+ * @author Lukas Eder
+ */
+public class VirtualThreadExecutorProvider implements ExecutorProvider, Serializable {
+
+    private static final JooqLogger     log     = JooqLogger.getLogger(VirtualThreadExecutorProvider.class);
+    private static final Executor       VIRTUAL = virtual();
+
+    private final int                   maxConcurrency;
+    private transient volatile Executor executor;
+
+    /**
+     * Create a provider that runs any number of tasks at the same time.
+     */
+    public VirtualThreadExecutorProvider() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a provider that runs at most <code>maxConcurrency</code> tasks
+     * at the same time.
+     */
+    public VirtualThreadExecutorProvider(int maxConcurrency) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Whether virtual threads are available in this JVM.
+     */
+    public static final boolean isVirtual() {
+        return VIRTUAL != null;
+    }
+
+    @Override
+    public final Executor provide() {
+
+        Executor result = executor;
+
+        // All tasks of this provider share the same concurrency limit
+        if (result == null) {
+            synchronized (this) {
+                if ((result = executor) == null)
+                    executor = result = executor(maxConcurrency);
+            }
+        }
+
+        return result;
+    }
+
+    private static final Executor executor(int maxConcurrency) {
+        if (VIRTUAL == null) {
+            if (maxConcurrency == Integer.MAX_VALUE)
+                return new DefaultExecutor();
+
+            ThreadPoolExecutor result = new ThreadPoolExecutor(
+                maxConcurrency,
+                maxConcurrency,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "jooq-async");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+
+            result.allowCoreThreadTimeOut(true);
+            return result;
+        }
+        else if (maxConcurrency == Integer.MAX_VALUE) {
+            return VIRTUAL;
+        }
+        else {
+            Semaphore permits = new Semaphore(maxConcurrency);
+
+            // Permits are acquired on the virtual thread, where waiting is cheap
+            return command -> VIRTUAL.execute(() -> {
+                permits.acquireUninterruptibly();
+
+                try {
+                    command.run();
+                }
+                finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Look up <code>Executors.newVirtualThreadPerTaskExecutor()</code>
+     * reflectively, as jOOQ is compiled against an earlier JDK.
+     */
+    private static final Executor virtual() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+
+        // The method is missing before JDK 19, and throws an
+        // UnsupportedOperationException without --enable-preview in JDK 19 and 20
+        catch (Exception e) {
+            log.debug("Virtual threads", "Virtual threads are not available. Using platform threads");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import static java.lang.Math.min;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An immutable snapshot of a latency histogram, as recorded by the
+ * {@link MetricsListener}.
+ * <p>
+ * Latencies are recorded in nanoseconds into log-linear buckets, similar to an
+ * HDR histogram: each power of two is split into 4 buckets, so the bucket
+ * bounds approximate recorded values with a relative error of at most 25%.
+ * Values up to roughly 17 hours are distinguished, longer ones are recorded
+ * in the last bucket.
+ *
+ * @author Lukas Eder
+ */
+public final class LatencyHistogram {
+
+    static final int     SUB_BITS = 2;
+    static final int     SUB      = 1 << SUB_BITS;
+    static final int     MAX_BITS = 45;
+    static final int     BUCKETS  = ((MAX_BITS - SUB_BITS + 1) << SUB_BITS) + SUB;
+
+    private final long[] counts;
+    private final long   count;
+    private final long   sum;
+    private final long   max;
+
+    LatencyHistogram(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * The number of recorded values.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * The sum of all recorded values in nanoseconds.
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * The greatest recorded value in nanoseconds.
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * The mean of all recorded values in nanoseconds.
+     */
+    public double mean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * An upper bound for the given percentile of recorded values in
+     * nanoseconds.
+     *
+     * @param percentile The percentile, between <code>0.0</code> and
+     *            <code>100.0</code>
+     */
+    public long percentile(double percentile) {
+        if (count == 0)
+            return 0L;
+
+        long rank = Math.max(1L, (long) Math.ceil(count * min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0L;
+
+        for (int i = 0; i < counts.length; i++)
+            if ((seen += counts[i]) >= rank)
+                return min(upperBound(i), max);
+
+        return max;
+    }
+
+    /**
+     * The number of buckets of this histogram.
+     */
+    public int buckets() {
+        return counts.length;
+    }
+
+    /**
+     * The number of values recorded in a bucket.
+     */
+    public long count(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * The smallest value in nanoseconds that is recorded in a bucket.
+     */
+    public long lowerBound(int bucket) {
+        if (bucket < SUB)
+            return bucket;
+
+        int shift = (bucket >> SUB_BITS) - 1;
+        return (long) (SUB + (bucket & (SUB - 1))) << shift;
+    }
+
+    /**
+     * The greatest value in nanoseconds that is recorded in a bucket.
+     */
+    public long upperBound(int bucket) {
+        if (bucket == counts.length - 1)
+            return Long.MAX_VALUE;
+        else if (bucket < SUB)
+            return bucket;
+
+        int shift = (bucket >> SUB_BITS) - 1;
+        return lowerBound(bucket) + (1L << shift) - 1;
+    }
+
+    /**
+     * The bucket that a value in nanoseconds is recorded in.
+     */
+    static int bucket(long value) {
+        if (value < SUB)
+            return (int) Math.max(0L, value);
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+
+        return min(BUCKETS - 1, ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) & (SUB - 1)));
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram [count=" + count
+            + ", mean=" + format((long) mean())
+            + ", p50=" + format(percentile(50.0))
+            + ", p99=" + format(percentile(99.0))
+            + ", max=" + format(max)
+            + "]";
+    }
+
+    private static String format(long nanos) {
+        return nanos < TimeUnit.MILLISECONDS.toNanos(1)
+             ? (nanos / 1000L) + "us"
+             : (nanos / 1000000L) + "ms";
+    }
+
+    /**
+     * The lock-free, mutable recorder of a {@link LatencyHistogram}.
+     */
+    static final class Recorder {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAdder       sum    = new LongAdder();
+        private final AtomicLong      max    = new AtomicLong();
+
+        void record(long nanos) {
+            counts.incrementAndGet(bucket(nanos));
+            sum.add(nanos);
+
+            long m;
+            while (nanos > (m = max.get()) && !max.compareAndSet(m, nanos));
+        }
+
+        LatencyHistogram snapshot() {
+            long[] c = new long[BUCKETS];
+            long total = 0L;
+
+            for (int i = 0; i < BUCKETS; i++)
+                total += (c[i] = counts.get(i));
+
+            // Concurrent recordings may be partially visible in the snapshot.
+            // The bucket counts are authoritative.
+            return new LatencyHistogram(c, total, sum.sum(), max.get());
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import static org.jooq.tools.QueryMetrics.Phase.BIND;
+import static org.jooq.tools.QueryMetrics.Phase.EXECUTE;
+import static org.jooq.tools.QueryMetrics.Phase.FETCH;
+import static org.jooq.tools.QueryMetrics.Phase.PREPARE;
+import static org.jooq.tools.QueryMetrics.Phase.RENDER;
+import static org.jooq.tools.QueryMetrics.Phase.TOTAL;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.tools.QueryMetrics.Phase;
+
+/**
+ * An {@link ExecuteListener} that aggregates metrics per SQL string.
+ * <p>
+ * For each distinct SQL string, this listener records the number of
+ * executions, errors, and affected or fetched rows, as well as a
+ * {@link LatencyHistogram} for each {@link Phase} of the execution. Recording
+ * is lock-free, and no per-record events are handled, so the overhead on
+ * query execution is small.
+ * <p>
+ * This is a stateful listener, which must be shared among all query
+ * executions whose metrics should be aggregated:
+ * <p>
+ *
+ * <pre>
+ * <code>
+ * configuration.set(new MetricsListener());
+ *
+ * // Later on:
+ * for (QueryMetrics metrics : MetricsListener.of(configuration).metrics())
+ *     System.out.println(metrics);
+ * </code>
+ * </pre>
+ * <p>
+ * The SQL strings are the ones generated by jOOQ, which contain bind variable
+ * placeholders unless static statements or inline bind values are used. To
+ * limit memory consumption, only a maximum number of distinct SQL strings is
+ * tracked. Metrics of additional SQL strings are aggregated into a single
+ * {@link QueryMetrics} instance whose {@link QueryMetrics#sql()} is
+ * <code>null</code>.
+ *
+ * @author Lukas Eder
+ */
+public class MetricsListener extends DefaultExecuteListener {
+
+    private static final Phase[]        PHASES = Phase.values();
+
+    private final int                   maxQueries;
+    private final Map<String, Recorder> recorders;
+    private volatile Recorder           other;
+
+    /**
+     * Create a new listener tracking up to 1000 distinct SQL strings.
+     */
+    public MetricsListener() {
+        this(1000);
+    }
+
+    /**
+     * Create a new listener tracking up to a maximum number of distinct SQL
+     * strings.
+     */
+    public MetricsListener(int maxQueries) {
+        if (maxQueries < 0)
+            throw new IllegalArgumentException("maxQueries must not be negative: " + maxQueries);
+
+        this.maxQueries = maxQueries;
+        this.recorders = new ConcurrentHashMap<>();
+        this.other = new Recorder(null);
+    }
+
+    /**
+     * Find the <code>MetricsListener</code> that is registered with a
+     * {@link Configuration}, or <code>null</code> if there is none.
+     * <p>
+     * This calls {@link ExecuteListenerProvider#provide()} on all registered
+     * providers, so it finds only listeners that are shared among executions.
+     */
+    public static MetricsListener of(Configuration configuration) {
+        for (ExecuteListenerProvider provider : configuration.executeListenerProviders())
+            if (provider != null) {
+                ExecuteListener listener = provider.provide();
+
+                if (listener instanceof MetricsListener)
+                    return (MetricsListener) listener;
+            }
+
+        return null;
+    }
+
+    /**
+     * A snapshot of the metrics recorded so far, one per SQL string, in no
+     * particular order.
+     */
+    public List<QueryMetrics> metrics() {
+        List<QueryMetrics> result = new ArrayList<>(recorders.size() + 1);
+
+        for (Recorder recorder : recorders.values())
+            result.add(recorder.snapshot());
+
+        Recorder o = other;
+        if (o.executions.sum() > 0)
+            result.add(o.snapshot());
+
+        return result;
+    }
+
+    /**
+     * Discard all metrics recorded so far.
+     */
+    public void reset() {
+        recorders.clear();
+        other = new Recorder(null);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ExecuteListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        Execution execution = new Execution();
+        ctx.data(this, execution);
+        execution.start(TOTAL);
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        start(ctx, RENDER);
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        end(ctx, RENDER);
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        start(ctx, PREPARE);
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        end(ctx, PREPARE);
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        start(ctx, BIND);
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        end(ctx, BIND);
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        start(ctx, EXECUTE);
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        end(ctx, EXECUTE);
+    }
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        start(ctx, FETCH);
+    }
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        end(ctx, FETCH);
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null)
+            execution.error = true;
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null) {
+            execution.end(TOTAL);
+            recorder(ctx.sql()).record(execution, ctx.rows());
+            ctx.data().remove(this);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Internals
+    // -------------------------------------------------------------------------
+
+    private final Execution execution(ExecuteContext ctx) {
+        Object execution = ctx.data(this);
+
+        // The start() event may have been missed, e.g. when this listener
+        // was added to a Configuration during an execution
+        if (execution == null)
+            ctx.data(this, execution = new Execution());
+
+        return (Execution) execution;
+    }
+
+    private final void start(ExecuteContext ctx, Phase phase) {
+        execution(ctx).start(phase);
+    }
+
+    private final void end(ExecuteContext ctx, Phase phase) {
+        execution(ctx).end(phase);
+    }
+
+    private final Recorder recorder(String sql) {
+        if (sql == null)
+            return other;
+
+        Recorder result = recorders.get(sql);
+
+        if (result == null) {
+            if (recorders.size() >= maxQueries)
+                return other;
+
+            result = recorders.computeIfAbsent(sql, Recorder::new);
+        }
+
+        return result;
+    }
+
+    /**
+     * The timings of a single query execution.
+     */
+    private static final class Execution {
+        final long[] started = new long[PHASES.length];
+        final long[] nanos   = new long[PHASES.length];
+        int          phases;
+        boolean      error;
+
+        final void start(Phase phase) {
+            started[phase.ordinal()] = System.nanoTime();
+        }
+
+        final void end(Phase phase) {
+            int i = phase.ordinal();
+
+            // Phases that occur several times per execution (e.g. for batches
+            // or multiple result sets) are summed up
+            if (started[i] != 0L) {
+                nanos[i] += System.nanoTime() - started[i];
+                started[i] = 0L;
+                phases |= 1 << i;
+            }
+        }
+    }
+
+    /**
+     * The lock-free, mutable recorder of {@link QueryMetrics}.
+     */
+    private static final class Recorder {
+        final String                      sql;
+        final LongAdder                   executions = new LongAdder();
+        final LongAdder                   errors     = new LongAdder();
+        final LongAdder                   rows       = new LongAdder();
+        final LatencyHistogram.Recorder[] histograms = new LatencyHistogram.Recorder[PHASES.length];
+
+        Recorder(String sql) {
+            this.sql = sql;
+
+            for (int i = 0; i < histograms.length; i++)
+                histograms[i] = new LatencyHistogram.Recorder();
+        }
+
+        final void record(Execution execution, int r) {
+            executions.increment();
+
+            if (execution.error)
+                errors.increment();
+
+            if (r > 0)
+                rows.add(r);
+
+            for (int i = 0; i < PHASES.length; i++)
+                if ((execution.phases & (1 << i)) != 0)
+                    histograms[i].record(execution.nanos[i]);
+        }
+
+        final QueryMetrics snapshot() {
+            Map<Phase, LatencyHistogram> map = new EnumMap<>(Phase.class);
+
+            for (Phase phase : PHASES)
+                map.put(phase, histograms[phase.ordinal()].snapshot());
+
+            return new QueryMetrics(sql, executions.sum(), errors.sum(), rows.sum(), map);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the metrics recorded by a {@link MetricsListener}
+ * for a SQL string.
+ *
+ * @author Lukas Eder
+ */
+public final class QueryMetrics {
+
+    private final String                       sql;
+    private final long                         executions;
+    private final long                         errors;
+    private final long                         rows;
+    private final Map<Phase, LatencyHistogram> histograms;
+
+    QueryMetrics(String sql, long executions, long errors, long rows, Map<Phase, LatencyHistogram> histograms) {
+        this.sql = sql;
+        this.executions = executions;
+        this.errors = errors;
+        this.rows = rows;
+        this.histograms = histograms;
+    }
+
+    /**
+     * The SQL string, or <code>null</code> for the aggregated metrics of all
+     * queries that exceeded {@link MetricsListener}'s limit of distinct SQL
+     * strings, or that failed before their SQL string was known.
+     */
+    public String sql() {
+        return sql;
+    }
+
+    /**
+     * The number of executions.
+     */
+    public long executions() {
+        return executions;
+    }
+
+    /**
+     * The number of executions that produced an exception.
+     */
+    public long errors() {
+        return errors;
+    }
+
+    /**
+     * The total number of rows that were affected or fetched.
+     * <p>
+     * Fetched rows are counted when the underlying cursor is closed, after
+     * having been consumed.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * The latencies recorded for a phase of the execution.
+     */
+    public LatencyHistogram histogram(Phase phase) {
+        return histograms.get(phase);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryMetrics [sql=" + sql
+            + ", executions=" + executions
+            + ", errors=" + errors
+            + ", rows=" + rows
+            + ", histograms=" + histograms
+            + "]";
+    }
+
+    /**
+     * A phase of a query execution, delimited by {@link org.jooq.ExecuteListener}
+     * events.
+     */
+    public enum Phase {
+
+        /**
+         * From <code>renderStart()</code> to <code>renderEnd()</code>.
+         */
+        RENDER,
+
+        /**
+         * From <code>prepareStart()</code> to <code>prepareEnd()</code>.
+         */
+        PREPARE,
+
+        /**
+         * From <code>bindStart()</code> to <code>bindEnd()</code>.
+         */
+        BIND,
+
+        /**
+         * From <code>executeStart()</code> to <code>executeEnd()</code>.
+         */
+        EXECUTE,
+
+        /**
+         * From <code>fetchStart()</code> to <code>fetchEnd()</code>.
+         */
+        FETCH,
+
+        /**
+         * From <code>start()</code> to <code>end()</code>.
+         */
+        TOTAL
+    }
+}
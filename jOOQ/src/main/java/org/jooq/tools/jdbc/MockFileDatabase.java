@@ -44,11 +44,15 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -132,6 +136,7 @@ public class MockFileDatabase implements MockDataProvider {
     private final MockFileDatabaseConfiguration  configuration;
     private final Map<String, List<MockResult>>  matchExactly;
     private final Map<Pattern, List<MockResult>> matchPattern;
+    private final PatternIndex                   patternIndex;
     private final DSLContext                     create;
 
     @Deprecated
@@ -188,6 +193,7 @@ public class MockFileDatabase implements MockDataProvider {
         this.create = DSL.using(SQLDialect.DEFAULT);
 
         load();
+        this.patternIndex = new PatternIndex(matchPattern);
     }
 
     private static final Pattern END_OF_STATEMENT = Pattern.compile("^(.*?);[ \t]*$");
@@ -284,7 +290,7 @@ public class MockFileDatabase implements MockDataProvider {
                 List<MockResult> results = matchExactly.get(previousSQL);
 
                 if (results == null) {
-                    results = new ArrayList<>();
+                    results = configuration.lazy ? new LazyResults() : new ArrayList<>();
 
                     if (configuration.patterns) {
                         try {
@@ -300,20 +306,15 @@ public class MockFileDatabase implements MockDataProvider {
                     }
                 }
 
-                MockResult mock = parse(line);
-                results.add(mock);
-
-                if (mock.data != null && log.isDebugEnabled()) {
-                    String comment = "Loaded Result";
+                String resultText = currentResult.toString();
 
-                    for (String l : mock.data.format(5).split("\n")) {
-                        log.debug(comment, l);
-                        comment = "";
-                    }
-                }
+                if (configuration.lazy)
+                    ((LazyResults) results).add(() -> parse(line, resultText));
+                else
+                    results.add(parse(line, resultText));
             }
 
-            private MockResult parse(String rowString) {
+            private MockResult parse(String rowString, String resultText) {
                 int rows = 0;
                 SQLException exception = null;
 
@@ -322,7 +323,6 @@ public class MockFileDatabase implements MockDataProvider {
                 if (rowString.startsWith("@ exception:"))
                     exception = new SQLException(rowString.substring(12).trim());
 
-                String resultText = currentResult.toString();
                 String trimmed = resultText.trim();
                 MockResult result =
                       exception != null
@@ -344,6 +344,15 @@ public class MockFileDatabase implements MockDataProvider {
                 if (result.data != null && rows != result.data.size())
                     throw new MockFileDatabaseException("Rows mismatch. Declared: " + rows + ". Actual: " + result.data.size() + ".");
 
+                if (result.data != null && log.isDebugEnabled()) {
+                    String comment = "Loaded Result";
+
+                    for (String l : result.data.format(5).split("\n")) {
+                        log.debug(comment, l);
+                        comment = "";
+                    }
+                }
+
                 return result;
             }
 
@@ -389,17 +398,8 @@ public class MockFileDatabase implements MockDataProvider {
             }
 
             // Check for the first pattern match
-            if (list == null) {
-
-                patternLoop:
-                for (Entry<Pattern, List<MockResult>> entry : matchPattern.entrySet()) {
-                    if (    entry.getKey().matcher(sql).matches()
-                         || entry.getKey().matcher(inlined).matches()) {
-                        list = entry.getValue();
-                        break patternLoop;
-                    }
-                }
-            }
+            if (list == null)
+                list = patternIndex.match(sql, inlined);
 
             // [#9078] Listing possible reasons for this to happen
             if (list == null)
@@ -413,4 +413,198 @@ public class MockFileDatabase implements MockDataProvider {
             return list.toArray(new MockResult[list.size()]);
         }
     }
+
+    /**
+     * A list of results that are parsed only when they are first accessed.
+     */
+    private static final class LazyResults extends AbstractList<MockResult> {
+        private final List<Supplier<MockResult>> suppliers = new ArrayList<>();
+        private final List<MockResult>           results   = new ArrayList<>();
+
+        void add(Supplier<MockResult> supplier) {
+            suppliers.add(supplier);
+            results.add(null);
+        }
+
+        @Override
+        public synchronized MockResult get(int index) {
+            MockResult result = results.get(index);
+
+            if (result == null)
+                results.set(index, result = suppliers.get(index).get());
+
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return results.size();
+        }
+    }
+
+    /**
+     * An index of patterns by their literal prefixes.
+     * <p>
+     * Only patterns whose literal prefix is a prefix of the SQL string are
+     * candidates for a match. The candidates are matched in the order in which
+     * the patterns were loaded, so the first matching pattern still wins.
+     */
+    private static final class PatternIndex {
+        private static final int[]                           NONE = {};
+
+        private final List<Entry<Pattern, List<MockResult>>> entries;
+        private final String[]                               prefixes;
+        private final Map<String, int[]>                     buckets;
+        private final int[]                                  lengths;
+
+        PatternIndex(Map<Pattern, List<MockResult>> patterns) {
+            this.entries = new ArrayList<>(patterns.entrySet());
+            this.prefixes = new String[entries.size()];
+            this.buckets = new HashMap<>();
+
+            Map<String, List<Integer>> b = new HashMap<>();
+            for (int i = 0; i < prefixes.length; i++) {
+                prefixes[i] = prefix(entries.get(i).getKey().pattern());
+                b.computeIfAbsent(prefixes[i], k -> new ArrayList<>()).add(i);
+            }
+
+            for (Entry<String, List<Integer>> e : b.entrySet())
+                buckets.put(e.getKey(), e.getValue().stream().mapToInt(Integer::intValue).toArray());
+
+            this.lengths = buckets.keySet().stream().mapToInt(String::length).distinct().sorted().toArray();
+        }
+
+        List<MockResult> match(String sql, String inlined) {
+            int[] candidates = candidates(sql);
+            if (!sql.equals(inlined))
+                candidates = merge(candidates, candidates(inlined));
+
+            for (int i : candidates) {
+                Pattern pattern = entries.get(i).getKey();
+
+                if (    sql.startsWith(prefixes[i]) && pattern.matcher(sql).matches()
+                     || inlined.startsWith(prefixes[i]) && pattern.matcher(inlined).matches())
+                    return entries.get(i).getValue();
+            }
+
+            return null;
+        }
+
+        private int[] candidates(String sql) {
+            int[] result = NONE;
+
+            for (int length : lengths) {
+                if (length > sql.length())
+                    break;
+
+                int[] bucket = buckets.get(sql.substring(0, length));
+
+                if (bucket != null)
+                    result = merge(result, bucket);
+            }
+
+            return result;
+        }
+
+        /**
+         * Merge two ascending arrays of distinct indexes.
+         */
+        private static int[] merge(int[] a, int[] b) {
+            if (a.length == 0)
+                return b;
+            else if (b.length == 0)
+                return a;
+
+            int[] result = new int[a.length + b.length];
+            int i = 0, j = 0, k = 0;
+
+            while (i < a.length && j < b.length)
+                if (a[i] < b[j])
+                    result[k++] = a[i++];
+                else if (a[i] > b[j])
+                    result[k++] = b[j++];
+                else {
+                    result[k++] = a[i++];
+                    j++;
+                }
+
+            while (i < a.length)
+                result[k++] = a[i++];
+            while (j < b.length)
+                result[k++] = b[j++];
+
+            return k == result.length ? result : Arrays.copyOf(result, k);
+        }
+
+        /**
+         * The literal prefix that all strings matched by a regular expression
+         * must start with.
+         */
+        private static String prefix(String regex) {
+            // Top level alternations may start with any prefix
+            if (alternation(regex))
+                return "";
+
+            StringBuilder sb = new StringBuilder();
+
+            for (int i = regex.startsWith("^") ? 1 : 0; i < regex.length(); i++) {
+                char c = regex.charAt(i);
+
+                // Escaped special characters, such as \? or \*
+                if (c == '\\' && i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    sb.append(regex.charAt(++i));
+                }
+                else if ("\\[](){}.*+?^$|".indexOf(c) >= 0) {
+
+                    // Quantifiers apply to the previous character
+                    if ("*+?{".indexOf(c) >= 0 && sb.length() > 0)
+                        sb.setLength(sb.length() - 1);
+
+                    break;
+                }
+                else
+                    sb.append(c);
+            }
+
+            return sb.toString();
+        }
+
+        private static boolean alternation(String regex) {
+            int depth = 0;
+            boolean characterClass = false;
+
+            for (int i = 0; i < regex.length(); i++) {
+                switch (regex.charAt(i)) {
+                    case '\\':
+                        i++;
+                        break;
+
+                    case '[':
+                        characterClass = true;
+                        break;
+
+                    case ']':
+                        characterClass = false;
+                        break;
+
+                    case '(':
+                        if (!characterClass)
+                            depth++;
+                        break;
+
+                    case ')':
+                        if (!characterClass)
+                            depth--;
+                        break;
+
+                    case '|':
+                        if (!characterClass && depth == 0)
+                            return true;
+                        break;
+                }
+            }
+
+            return false;
+        }
+    }
 }
@@ -65,19 +65,22 @@ public final class MockFileDatabaseConfiguration {
     final LineNumberReader in;
     final boolean          patterns;
     final String           nullLiteral;
+    final boolean          lazy;
 
     public MockFileDatabaseConfiguration() {
-        this(new LineNumberReader(new StringReader("")), false, null);
+        this(new LineNumberReader(new StringReader("")), false, null, false);
     }
 
     private MockFileDatabaseConfiguration(
         LineNumberReader in,
         boolean patterns,
-        String nullLiteral
+        String nullLiteral,
+        boolean lazy
     ) {
         this.in = in;
         this.patterns = patterns;
         this.nullLiteral = nullLiteral;
+        this.lazy = lazy;
     }
 
     public final MockFileDatabaseConfiguration source(File file) {
@@ -101,7 +104,7 @@ public final class MockFileDatabaseConfiguration {
     }
 
     public final MockFileDatabaseConfiguration source(Reader reader) {
-        return new MockFileDatabaseConfiguration(new LineNumberReader(reader), patterns, nullLiteral);
+        return new MockFileDatabaseConfiguration(new LineNumberReader(reader), patterns, nullLiteral, lazy);
     }
 
     public final MockFileDatabaseConfiguration source(String string) {
@@ -109,10 +112,22 @@ public final class MockFileDatabaseConfiguration {
     }
 
     public final MockFileDatabaseConfiguration patterns(boolean newPatterns) {
-        return new MockFileDatabaseConfiguration(in, newPatterns, nullLiteral);
+        return new MockFileDatabaseConfiguration(in, newPatterns, nullLiteral, lazy);
     }
 
     public final MockFileDatabaseConfiguration nullLiteral(String newNullLiteral) {
-        return new MockFileDatabaseConfiguration(in, patterns, newNullLiteral);
+        return new MockFileDatabaseConfiguration(in, patterns, newNullLiteral, lazy);
+    }
+
+    /**
+     * Whether results should be loaded lazily, when their statement is first
+     * executed, rather than when the {@link MockFileDatabase} is created.
+     * <p>
+     * This speeds up the creation of large {@link MockFileDatabase} instances,
+     * but errors in results (e.g. row count mismatches) are reported only
+     * when the affected statement is executed.
+     */
+    public final MockFileDatabaseConfiguration lazy(boolean newLazy) {
+        return new MockFileDatabaseConfiguration(in, patterns, nullLiteral, newLazy);
     }
 }
@@ -88,6 +88,7 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     private final MockConnection     connection;
 
     private final MockDataProvider   data;
+    private final String             preparedSql;
     private final List<String>       sql;
     private final List<List<Object>> bindings;
     private final List<Integer>      outParameterTypes;
@@ -116,6 +117,7 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     public MockStatement(MockConnection connection, MockDataProvider data, String sql) {
         this.connection = connection;
         this.data = data;
+        this.preparedSql = sql;
         this.sql = new ArrayList<>();
         this.bindings = new ArrayList<>();
         this.outParameterTypes = new ArrayList<>();
@@ -337,6 +339,11 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     public void clearBatch() throws SQLException {
         checkNotClosed();
         sql.clear();
+
+        // Prepared statements keep their SQL string when their batch is cleared
+        if (preparedSql != null)
+            sql.add(preparedSql);
+
         bindings.clear();
         bindings.add(new ArrayList<>());
     }